@@ -0,0 +1,53 @@
+package com.ead.authuser.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ead.authuser.AuthuserApplication;
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+import com.ead.authuser.models.UserModel;
+
+final class BenchmarkFixtures {
+
+    static final String USER_JSON = "{"
+            + "\"username\":\"maria.souza\","
+            + "\"email\":\"maria.souza@ead.com\","
+            + "\"password\":\"s3cr3t-pass\","
+            + "\"oldPassword\":\"old-s3cr3t\","
+            + "\"fullName\":\"Maria Conceição de Souza\","
+            + "\"phoneNumber\":\"+55 11 99999-0000\","
+            + "\"cpf\":\"123.456.789-00\","
+            + "\"imageUrl\":\"https://cdn.ead.com/users/maria.png\""
+            + "}";
+
+    private BenchmarkFixtures() {
+    }
+
+    static UserModel user(int i) {
+        var userModel = new UserModel();
+        userModel.setUserId(new UUID(0x5eedL, i));
+        userModel.setUsername("user" + i);
+        userModel.setEmail("user" + i + "@ead.com");
+        userModel.setPassword("s3cr3t-pass");
+        userModel.setFullName("Usuário Número " + i);
+        userModel.setUserStatus(UserStatus.ACTIVE);
+        userModel.setUserType(i % 10 == 0 ? UserType.INSTRUCTOR : UserType.STUDENT);
+        userModel.setPhoneNumber("+55 11 9" + String.format("%08d", i));
+        userModel.setCpf(String.format("%011d", i));
+        userModel.setImageUrl("https://cdn.ead.com/users/" + i + ".png");
+        userModel.setCreationDate(LocalDateTime.of(2023, 1, 1, 12, 0).plusMinutes(i));
+        userModel.setLastUpdateDate(LocalDateTime.of(2023, 1, 1, 12, 0).plusMinutes(i));
+        return userModel;
+    }
+
+    /** Full application on an in-memory H2 database, configured by application-benchmark.yaml. */
+    static ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(AuthuserApplication.class)
+                .profiles("benchmark")
+                .run();
+    }
+}
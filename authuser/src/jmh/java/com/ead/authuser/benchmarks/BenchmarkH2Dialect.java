@@ -0,0 +1,17 @@
+package com.ead.authuser.benchmarks;
+
+import java.sql.Types;
+
+import org.hibernate.dialect.H2Dialect;
+
+/**
+ * Hibernate 5 maps UUIDs to binary(255), which H2 2.x pads with zeros, so lookups by id never
+ * match. varbinary keeps the 16 bytes as written, like Postgres' native uuid does.
+ */
+public class BenchmarkH2Dialect extends H2Dialect {
+
+    public BenchmarkH2Dialect() {
+        super();
+        registerColumnType(Types.BINARY, "varbinary($l)");
+    }
+}
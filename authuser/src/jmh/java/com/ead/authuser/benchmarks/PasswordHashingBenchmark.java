@@ -0,0 +1,51 @@
+package com.ead.authuser.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt throughput per thread at each candidate cost. Run with {@code -t <cores>} to see the
+ * throughput the hashing pool can sustain per node when sizing ead.password.hashing.threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    @Param({"8", "10", "12"})
+    int strength;
+
+    BCryptPasswordEncoder encoder;
+    String storedHash;
+
+    @Setup
+    public void setup() {
+        encoder = new BCryptPasswordEncoder(strength);
+        storedHash = encoder.encode("s3cr3t-pass");
+    }
+
+    @Benchmark
+    public String hash() {
+        return encoder.encode("s3cr3t-pass");
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches("s3cr3t-pass", storedHash);
+    }
+}
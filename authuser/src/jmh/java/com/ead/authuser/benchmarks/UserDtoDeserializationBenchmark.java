@@ -0,0 +1,48 @@
+package com.ead.authuser.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ead.authuser.dtos.UserDTO;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/** Request body binding of {@link UserDTO} under each @JsonView used by the controllers. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDtoDeserializationBenchmark {
+
+    @Param({"RegistrationPost", "UserPut", "PasswordPut", "ImagePut"})
+    String view;
+
+    ObjectReader reader;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        Class<?> viewClass = Class.forName(UserDTO.UserView.class.getName() + "$" + view);
+        reader = Jackson2ObjectMapperBuilder.json().build()
+                .readerWithView(viewClass)
+                .forType(UserDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO deserialize() throws IOException {
+        return reader.readValue(BenchmarkFixtures.USER_JSON);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ead.authuser.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ead.authuser.dtos.UserDTO;
+import com.ead.authuser.models.UserModel;
+
+/** The BeanUtils.copyProperties(UserDTO -> UserModel) step of registerUser. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMappingBenchmark {
+
+    UserDTO userDTO;
+
+    @Setup
+    public void setup() throws IOException {
+        userDTO = Jackson2ObjectMapperBuilder.json().build().readValue(BenchmarkFixtures.USER_JSON, UserDTO.class);
+    }
+
+    @Benchmark
+    public UserModel copyProperties() {
+        var userModel = new UserModel();
+        BeanUtils.copyProperties(userDTO, userModel);
+        return userModel;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ead.authuser.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ead.authuser.dtos.UserSummaryDTO;
+import com.ead.authuser.models.UserModel;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * One list page encoded the way it used to be (reflection, {@code @JsonFormat} dates) against
+ * Blackbird with the hand-written date serializer, as CBOR, and as gzipped JSON. The encoded
+ * size of each variant is printed once per trial; run with {@code -prof gc} for allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserPageEncodingBenchmark {
+
+    @Param({"10", "100"})
+    int pageSize;
+
+    ObjectMapper baselineMapper;
+    ObjectMapper jsonMapper;
+    ObjectMapper cborMapper;
+    UserSummaryDTO[] page;
+
+    // Puts back the pattern-based formatting the fields used before UserDateTimeSerializer
+    abstract static class PatternDatesMixin {
+        @JsonSerialize(using = JsonSerializer.None.class)
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+        LocalDateTime creationDate;
+
+        @JsonSerialize(using = JsonSerializer.None.class)
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+        LocalDateTime lastUpdateDate;
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        baselineMapper = Jackson2ObjectMapperBuilder.json().mixIn(UserSummaryDTO.class, PatternDatesMixin.class).build();
+        jsonMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().modulesToInstall(new BlackbirdModule()).build();
+
+        page = new UserSummaryDTO[pageSize];
+        for (int i = 0; i < pageSize; i++) {
+            UserModel source = BenchmarkFixtures.user(i);
+            var user = new UserSummaryDTO(source.getUserId(), source.getUsername(), source.getEmail(), source.getFullName(),
+                    source.getUserStatus(), source.getUserType(), source.getPhoneNumber(), source.getCpf(),
+                    source.getImageUrl(), source.getCreationDate(), source.getLastUpdateDate());
+            user.add(Link.of("http://localhost:8087/users/" + user.getUserId()));
+            page[i] = user;
+        }
+
+        System.out.printf("%n[%d users] json: %d bytes, json+gzip: %d bytes, cbor: %d bytes%n", pageSize,
+                jsonBaseline().length, jsonGzip().length, cbor().length);
+    }
+
+    @Benchmark
+    public byte[] jsonBaseline() throws IOException {
+        return baselineMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] jsonBlackbird() throws IOException {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cborMapper.writeValueAsBytes(page);
+    }
+
+    // What server.compression adds on top of the JSON encoding (Tomcat uses the default level)
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(bytes)) {
+            jsonMapper.writeValue(gzip, page);
+        }
+        return bytes.toByteArray();
+    }
+}
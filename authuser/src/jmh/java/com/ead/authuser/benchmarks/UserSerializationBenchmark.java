@@ -0,0 +1,91 @@
+package com.ead.authuser.benchmarks;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.ead.authuser.controllers.UserController;
+import com.ead.authuser.dtos.UserSummaryDTO;
+import com.ead.authuser.models.UserModel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One list page (10 users) rendered the old way, as entities with a methodOn link per row, and
+ * the projection way, as {@link UserSummaryDTO} with links appended to a base URI resolved once.
+ * Run with {@code -prof gc} to compare allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSerializationBenchmark {
+
+    static final int PAGE_SIZE = 10;
+
+    ObjectMapper objectMapper;
+    UserModel[] users;
+
+    @Setup
+    public void setup() {
+        var request = new MockHttpServletRequest("GET", "/users");
+        request.setServerPort(8087);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        users = new UserModel[PAGE_SIZE];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            users[i] = BenchmarkFixtures.user(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public byte[] entityPageWithMethodOnLinks() throws JsonProcessingException {
+        UserModel[] page = new UserModel[PAGE_SIZE];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            UserModel userModel = BenchmarkFixtures.user(i);
+            userModel.add(linkTo(methodOn(UserController.class).getOneUser(userModel.getUserId(), null)).withSelfRel());
+            page[i] = userModel;
+        }
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] projectionPageWithPrecomputedLinks() throws JsonProcessingException {
+        UserSummaryDTO[] page = new UserSummaryDTO[PAGE_SIZE];
+        String usersUri = linkTo(UserController.class).toUri().toString();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            UserModel source = users[i];
+            var user = new UserSummaryDTO(source.getUserId(), source.getUsername(), source.getEmail(), source.getFullName(),
+                    source.getUserStatus(), source.getUserType(), source.getPhoneNumber(), source.getCpf(),
+                    source.getImageUrl(), source.getCreationDate(), source.getLastUpdateDate());
+            user.add(Link.of(usersUri + "/" + user.getUserId()));
+            page[i] = user;
+        }
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
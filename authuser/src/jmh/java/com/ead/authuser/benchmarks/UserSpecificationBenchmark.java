@@ -0,0 +1,134 @@
+package com.ead.authuser.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.criteria.Join;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ead.authuser.dtos.UserSummaryDTO;
+import com.ead.authuser.enums.UserType;
+import com.ead.authuser.models.UserCourseModel;
+import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.UserCourseRepository;
+import com.ead.authuser.services.UserService;
+import com.ead.authuser.specifications.SpecificationTemplate;
+
+/**
+ * Specification to SQL to page, end to end through the repositories on an embedded H2 database.
+ * Absolute numbers are not Postgres numbers; the relative cost of the query shapes is what to track.
+ * H2 at 20k users doesn't show how DISTINCT vs EXISTS plans on Postgres at scale: for that, run
+ * {@code src/jmh/resources/enrollment/course-filter-benchmark.sql} on a database seeded with ~1M enrollments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserSpecificationBenchmark {
+
+    static final UUID COURSE_ID = new UUID(0xc0ffeeL, 1);
+
+    @Param({"20000"})
+    int users;
+
+    @Param({"0", "50"})
+    int page;
+
+    ConfigurableApplicationContext context;
+    UserService userService;
+    Specification<UserModel> typeSpec;
+    Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkFixtures.startApplication();
+        userService = context.getBean(UserService.class);
+        UserCourseRepository userCourseRepository = context.getBean(UserCourseRepository.class);
+
+        List<UserModel> batch = new ArrayList<>();
+        List<UserCourseModel> enrollments = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            UserModel userModel = BenchmarkFixtures.user(i);
+            userModel.setUserId(null);
+            batch.add(userModel);
+            if(batch.size() == 1000) {
+                enrollments.addAll(enroll(batch));
+                batch.clear();
+            }
+        }
+        enrollments.addAll(enroll(batch));
+        userCourseRepository.saveAll(enrollments);
+
+        typeSpec = (root, query, cb) -> cb.equal(root.get("userType"), UserType.STUDENT);
+        pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.ASC, "userId"));
+    }
+
+    private List<UserCourseModel> enroll(List<UserModel> batch) {
+        userService.saveAll(batch);
+        List<UserCourseModel> enrollments = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            var userCourse = new UserCourseModel();
+            userCourse.setUser(batch.get(i));
+            userCourse.setCourseId(i % 2 == 0 ? COURSE_ID : new UUID(0xc0ffeeL, i % 7 + 2));
+            enrollments.add(userCourse);
+        }
+        return enrollments;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** The course filter as it was before the semi-join: DISTINCT over the joined rows. */
+    static Specification<UserModel> distinctJoinUserCourseId(UUID courseId) {
+        return (root, query, cb) -> {
+            query.distinct(true);
+            Join<UserModel, UserCourseModel> userProd = root.join("usersCourses");
+            return cb.equal(userProd.get("courseId"), courseId);
+        };
+    }
+
+    @Benchmark
+    public Page<UserModel> courseFilterDistinctJoin() {
+        return userService.findAll(distinctJoinUserCourseId(COURSE_ID).and(typeSpec), pageable);
+    }
+
+    @Benchmark
+    public Page<UserModel> courseFilterSemiJoin() {
+        return userService.findAll(SpecificationTemplate.userCourseId(COURSE_ID).and(typeSpec), pageable);
+    }
+
+    @Benchmark
+    public Page<UserModel> entityPage() {
+        return userService.findAll(typeSpec, pageable);
+    }
+
+    @Benchmark
+    public Page<UserSummaryDTO> projectionPage() {
+        return userService.findAllSummaries(typeSpec, pageable);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ead.authuser.benchmarks;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ead.authuser.dtos.UserDTO;
+import com.ead.authuser.validations.impl.UsernameConstraintImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserValidationBenchmark {
+
+    UsernameConstraintImpl usernameConstraint;
+    ValidatorFactory validatorFactory;
+    Validator validator;
+    UserDTO userDTO;
+
+    @Setup
+    public void setup() throws IOException {
+        usernameConstraint = new UsernameConstraintImpl();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        userDTO = Jackson2ObjectMapperBuilder.json().build().readValue(BenchmarkFixtures.USER_JSON, UserDTO.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean usernameConstraint() {
+        return usernameConstraint.isValid(userDTO.getUsername(), null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserDTO>> registrationPostGroup() {
+        return validator.validate(userDTO, UserDTO.UserView.RegistrationPost.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserDTO>> passwordPutGroup() {
+        return validator.validate(userDTO, UserDTO.UserView.PasswordPut.class);
+    }
+}
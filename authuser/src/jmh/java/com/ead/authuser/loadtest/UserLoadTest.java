@@ -0,0 +1,113 @@
+package com.ead.authuser.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Closed-loop load generator for GET /users/{userId} and GET /users against a running instance
+ * (backed by a local Postgres). Run it once against the default thread-per-request mode and once
+ * with ead.web.virtual-threads.enabled=true on a Java 21 runtime, then compare throughput and p99.
+ *
+ * <pre>
+ * ./mvnw -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ead.authuser.loadtest.UserLoadTest \
+ *     -Dexec.args="http://localhost:8087 400 60"
+ * </pre>
+ * Arguments: base URL, concurrent clients, duration in seconds.
+ */
+public final class UserLoadTest {
+
+    private UserLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8087";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        List<UUID> userIds = loadUserIds(httpClient, baseUrl);
+        if(userIds.isEmpty()) {
+            throw new IllegalStateException("No users found at " + baseUrl + "/users, seed some with /auth/signup/bulk first");
+        }
+
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        long[][] latencies = new long[clients][];
+        Thread[] workers = new Thread[clients];
+        for (int i = 0; i < clients; i++) {
+            int client = i;
+            workers[i] = new Thread(() -> latencies[client] = runClient(httpClient, baseUrl, userIds, deadline, errors));
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("clients=%d duration=%ds requests=%d errors=%d%n", clients, seconds, all.length, errors.get());
+        System.out.printf("throughput=%.1f req/s%n", all.length / (double) seconds);
+        System.out.printf("p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms%n",
+                percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99), percentile(all, 1.0));
+    }
+
+    private static long[] runClient(HttpClient httpClient, String baseUrl, List<UUID> userIds, long deadline, AtomicLong errors) {
+        long[] samples = new long[1024];
+        int count = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            String path = random.nextInt(4) == 0
+                    ? "/users?page=" + random.nextInt(100)
+                    : "/users/" + userIds.get(random.nextInt(userIds.size()));
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if(response.statusCode() >= 500) {
+                    errors.incrementAndGet();
+                    continue;
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                continue;
+            }
+            if(count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = System.nanoTime() - start;
+        }
+        return Arrays.copyOf(samples, count);
+    }
+
+    private static List<UUID> loadUserIds(HttpClient httpClient, String baseUrl) throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/users?size=1000")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        List<UUID> userIds = new ArrayList<>();
+        for (JsonNode user : new ObjectMapper().readTree(response.body()).path("content")) {
+            userIds.add(UUID.fromString(user.path("userId").asText()));
+        }
+        return userIds;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if(sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
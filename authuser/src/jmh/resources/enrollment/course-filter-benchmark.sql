@@ -0,0 +1,41 @@
+-- ?courseId= as a DISTINCT join (before) and as an EXISTS semi-join (SpecificationTemplate.userCourseId),
+-- each with the page and the count query Spring Data issues for it, at page 0 and page 50.
+--   psql -d ead-authuser -f course-filter-benchmark.sql
+\timing on
+\set course 00000000-00c0-ffee-0000-000000000001
+
+-- Before: DISTINCT over the joined rows
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT DISTINCT u.* FROM tb_users u
+    INNER JOIN tb_users_courses uc ON u.user_id = uc.user_user_id
+WHERE uc.course_id = :'course' AND u.user_type = 'STUDENT'
+ORDER BY u.user_id LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT DISTINCT u.* FROM tb_users u
+    INNER JOIN tb_users_courses uc ON u.user_id = uc.user_user_id
+WHERE uc.course_id = :'course' AND u.user_type = 'STUDENT'
+ORDER BY u.user_id LIMIT 10 OFFSET 500;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(DISTINCT u.user_id) FROM tb_users u
+    INNER JOIN tb_users_courses uc ON u.user_id = uc.user_user_id
+WHERE uc.course_id = :'course' AND u.user_type = 'STUDENT';
+
+-- After: EXISTS semi-join
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT u.* FROM tb_users u
+WHERE EXISTS (SELECT 1 FROM tb_users_courses uc WHERE uc.user_user_id = u.user_id AND uc.course_id = :'course')
+  AND u.user_type = 'STUDENT'
+ORDER BY u.user_id LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT u.* FROM tb_users u
+WHERE EXISTS (SELECT 1 FROM tb_users_courses uc WHERE uc.user_user_id = u.user_id AND uc.course_id = :'course')
+  AND u.user_type = 'STUDENT'
+ORDER BY u.user_id LIMIT 10 OFFSET 500;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(u.user_id) FROM tb_users u
+WHERE EXISTS (SELECT 1 FROM tb_users_courses uc WHERE uc.user_user_id = u.user_id AND uc.course_id = :'course')
+  AND u.user_type = 'STUDENT';
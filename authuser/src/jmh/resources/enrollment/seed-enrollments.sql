@@ -0,0 +1,19 @@
+-- Seeds tb_users_courses with :enrollments rows (default 1M) for course-filter-benchmark.sql, two per
+-- user over the first :enrollments / 2 users, so seed at least that many users first (seed-users.sql).
+-- Half of those users are in the filtered course, like in UserSpecificationBenchmark:
+--   psql -d ead-authuser -v enrollments=1000000 -f seed-enrollments.sql
+\if :{?enrollments}
+\else
+\set enrollments 1000000
+\endif
+
+INSERT INTO tb_users_courses (user_course_id, course_id, user_user_id)
+SELECT gen_random_uuid(),
+       CASE WHEN k = 0 AND u.n % 2 = 0 THEN '00000000-00c0-ffee-0000-000000000001'::uuid
+            ELSE ('00000000-00c0-ffee-0000-00000000000' || ((u.n * 2 + k) % 7 + 2))::uuid END,
+       u.user_id
+FROM (SELECT user_id, row_number() OVER (ORDER BY user_id) AS n FROM tb_users) u,
+     generate_series(0, 1) AS k
+WHERE u.n <= :enrollments / 2;
+
+ANALYZE tb_users_courses;
@@ -0,0 +1,33 @@
+-- Compares the old LIKE filter with the indexed search paths on the seeded table.
+--   psql -d ead-authuser -f search-benchmark.sql
+\timing on
+
+-- Before: what Like.class produced for ?fullName=conceicao (sequential scan, misses accented rows)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT user_id FROM tb_users WHERE upper(full_name) LIKE '%CONCEICAO%' LIMIT 10;
+
+-- After: UnaccentLike, served by idx_users_full_name_trgm
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT user_id FROM tb_users WHERE lower(f_unaccent(full_name)) LIKE '%conceicao%' LIMIT 10;
+
+-- GET /users/search?q=joao guimaraes
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT u.* FROM tb_users u
+WHERE to_tsvector('simple', f_unaccent(u.full_name || ' ' || u.username || ' ' || u.email)) @@ plainto_tsquery('simple', f_unaccent('joao guimaraes'))
+   OR lower(f_unaccent(u.full_name)) % 'joao guimaraes'
+ORDER BY ts_rank(to_tsvector('simple', f_unaccent(u.full_name || ' ' || u.username || ' ' || u.email)), plainto_tsquery('simple', f_unaccent('joao guimaraes'))) DESC,
+         similarity(lower(f_unaccent(u.full_name)), 'joao guimaraes') DESC
+LIMIT 20;
+
+-- GET /users/autocomplete?q=joao guim
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT u.* FROM tb_users u
+WHERE to_tsvector('simple', f_unaccent(u.full_name || ' ' || u.username || ' ' || u.email)) @@ cast(regexp_replace(cast(plainto_tsquery('simple', f_unaccent('joao guim')) as text), '''$', ''':*') as tsquery)
+ORDER BY ts_rank(to_tsvector('simple', f_unaccent(u.full_name || ' ' || u.username || ' ' || u.email)), cast(regexp_replace(cast(plainto_tsquery('simple', f_unaccent('joao guim')) as text), '''$', ''':*') as tsquery)) DESC, u.full_name
+LIMIT 10;
+
+-- GET /users/search?q=user42@ead.com (the 'simple' parser keeps an email as a single lexeme)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT u.user_id FROM tb_users u
+WHERE to_tsvector('simple', f_unaccent(u.full_name || ' ' || u.username || ' ' || u.email)) @@ plainto_tsquery('simple', f_unaccent('user42@ead.com'))
+LIMIT 20;
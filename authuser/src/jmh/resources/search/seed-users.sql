@@ -0,0 +1,30 @@
+-- Seeds tb_users with :rows synthetic users (default 5M) for the search benchmarks.
+-- Run against a migrated, otherwise empty database (PostgreSQL 13+ for gen_random_uuid):
+--   psql -d ead-authuser -v rows=5000000 -f seed-users.sql
+\if :{?rows}
+\else
+\set rows 5000000
+\endif
+
+WITH first_names AS (
+    SELECT ARRAY['João', 'José', 'Antônio', 'Francisco', 'Luís', 'Márcio', 'Sérgio', 'Conceição',
+                 'Maria', 'Ana', 'Fátima', 'Lúcia', 'Mônica', 'Cecília', 'Inês', 'Glória'] AS names
+), last_names AS (
+    SELECT ARRAY['Silva', 'Santos', 'Oliveira', 'Souza', 'Araújo', 'Gonçalves', 'Assunção', 'Guimarães',
+                 'Magalhães', 'Brandão', 'Simões', 'Conceição', 'Loureiro', 'Falcão', 'Estêvão', 'Romão'] AS names
+)
+INSERT INTO tb_users (user_id, username, email, password, full_name, user_status, user_type,
+                      creation_date, last_update_date, version)
+SELECT gen_random_uuid(),
+       'user' || n,
+       'user' || n || '@ead.com',
+       '$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1I8M3Tb4K4aG6g3tKcXyK4K',
+       f.names[1 + n % 16] || ' ' || l.names[1 + (n / 16) % 16] || ' ' || l.names[1 + (n / 256) % 16],
+       CASE WHEN n % 10 = 0 THEN 'BLOCKED' ELSE 'ACTIVE' END,
+       CASE WHEN n % 500 = 0 THEN 'ADMIN' WHEN n % 50 = 0 THEN 'INSTRUCTOR' ELSE 'STUDENT' END,
+       now() - (n % 1000) * interval '1 hour',
+       now(),
+       0
+FROM generate_series(1, :rows) AS n, first_names f, last_names l;
+
+ANALYZE tb_users;
@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Cold-start time to first request and resident memory of authuser, per startup mode.
+#
+#   ./mvnw -Pappcds verify                  # thin jar, lib/ and the CDS archive in target/appcds
+#   src/jmh/startup/startup-benchmark.sh [runs]
+#
+# Each run starts a fresh JVM, polls $URL until it answers 200 (a real query, so lazily created
+# beans and the deferred EntityManagerFactory are paid for), then reads VmRSS and stops it.
+# Needs the database from application.yaml, or SPRING_DATASOURCE_* in the environment.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+URL=${URL:-http://localhost:$PORT/users?size=1}
+APPCDS_DIR=$(cd "$(dirname "$0")/../../.." && pwd)/target/appcds
+JAR=$(ls "$APPCDS_DIR"/authuser-*.jar)
+JSA=$APPCDS_DIR/authuser.jsa
+OUTBOX_FILE=$(mktemp -d)/outbox.ndjson
+
+measure() {
+    local mode=$1
+    shift
+    for run in $(seq "$RUNS"); do
+        local start end pid rss
+        start=$(date +%s%N)
+        java "$@" --server.port="$PORT" --ead.outbox.transport=file --ead.outbox.file.path="$OUTBOX_FILE" > /dev/null 2>&1 &
+        pid=$!
+        until curl -sf -o /dev/null "$URL"; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "$mode: application exited before answering $URL" >&2
+                return 1
+            fi
+            sleep 0.05
+        done
+        end=$(date +%s%N)
+        rss=$(awk '/^VmRSS/ {print $2}' "/proc/$pid/status")
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+        printf '%-9s run %d  first request %6d ms  rss %5d MB\n' "$mode" "$run" $(((end - start) / 1000000)) $((rss / 1024))
+    done
+}
+
+measure baseline -jar "$JAR"
+measure lazy -jar "$JAR" --spring.profiles.active=lazy
+if [ -f "$JSA" ]; then
+    measure cds -XX:SharedArchiveFile="$JSA" -jar "$JAR"
+    measure cds+lazy -XX:SharedArchiveFile="$JSA" -jar "$JAR" --spring.profiles.active=lazy
+else
+    echo "No $JSA, skipping the CDS modes (./mvnw -Pappcds verify)" >&2
+fi
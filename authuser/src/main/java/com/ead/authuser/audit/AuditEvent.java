@@ -0,0 +1,21 @@
+package com.ead.authuser.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.ead.authuser.enums.AuditEventType;
+
+import lombok.Value;
+
+/**
+ * Captured on the request thread as plain references; the payload is only turned into redacted
+ * attributes and formatted on the audit writer thread.
+ */
+@Value
+public class AuditEvent {
+
+    AuditEventType type;
+    UUID userId;
+    Object payload;
+    Instant timestamp;
+}
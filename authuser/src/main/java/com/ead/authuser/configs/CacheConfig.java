@@ -0,0 +1,81 @@
+package com.ead.authuser.configs;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users";
+
+    @Value("${ead.cache.users.mode:local}")
+    String mode;
+
+    @Value("${ead.cache.users.maximum-size:10000}")
+    long maximumSize;
+
+    @Value("${ead.cache.users.expire-after-write:5m}")
+    Duration expireAfterWrite;
+
+    /**
+     * Users are cached as immutable {@link com.ead.authuser.dtos.UserSnapshotDTO}s, never as entities.
+     * In "local" mode they are cached only in this instance. In "near" mode the local cache
+     * sits in front of the shared tier exposed as the {@code sharedCacheManager} bean (e.g. Redis),
+     * and the local TTL bounds how long another instance's update can stay invisible here.
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(@Qualifier("sharedCacheManager") ObjectProvider<CacheManager> sharedCacheManager) {
+        CaffeineCacheManager localCacheManager = new CaffeineCacheManager(USERS_CACHE);
+        localCacheManager.setAllowNullValues(false);
+        localCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+
+        CacheManager shared = sharedCacheManager.getIfAvailable();
+        if(!"near".equalsIgnoreCase(mode)) {
+            return localCacheManager;
+        }
+        if(shared == null) {
+            log.warn("Cache mode 'near' requested but no sharedCacheManager bean found. Falling back to local cache.");
+            return localCacheManager;
+        }
+        return new AbstractCacheManager() {
+            @Override
+            protected Collection<? extends Cache> loadCaches() {
+                return List.of(new NearCache(
+                        (CaffeineCache) localCacheManager.getCache(USERS_CACHE),
+                        shared.getCache(USERS_CACHE)));
+            }
+        };
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<NearCache> nearCacheMeterBinderProvider() {
+        CaffeineCacheMeterBinderProvider caffeineProvider = new CaffeineCacheMeterBinderProvider();
+        return (cache, tags) -> caffeineProvider.getMeterBinder(cache.getLocalCache(), tags);
+    }
+}
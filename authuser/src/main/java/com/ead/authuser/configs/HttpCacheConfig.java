@@ -0,0 +1,23 @@
+package com.ead.authuser.configs;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * List pages have no single version to compare, so their ETag is a hash of the rendered body: the
+ * query still runs, but unchanged pages go back as an empty 304. Weak, since gzip changes the bytes.
+ */
+@Configuration
+public class HttpCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> userListEtagFilter() {
+        var filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+        var registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/users", "/users/keyset");
+        return registration;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ead.authuser.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Boot registers Module beans in its ObjectMapper (used by the export, import and audit paths).
+ * Blackbird replaces reflective property access with generated lambdas.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ead.authuser.configs;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Two-level cache: reads hit the local Caffeine cache first and fall back to the shared tier,
+ * writes and evictions go to both.
+ */
+public class NearCache implements Cache {
+
+    private final CaffeineCache localCache;
+    private final Cache sharedCache;
+
+    public NearCache(CaffeineCache localCache, Cache sharedCache) {
+        this.localCache = localCache;
+        this.sharedCache = sharedCache;
+    }
+
+    public CaffeineCache getLocalCache() {
+        return localCache;
+    }
+
+    @Override
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = localCache.get(key);
+        if(value == null) {
+            value = sharedCache.get(key);
+            if(value != null && value.get() != null) {
+                localCache.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        return value == null ? null : type.cast(value.get());
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return localCache.get(key, () -> sharedCache.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        sharedCache.put(key, value);
+        localCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        sharedCache.evict(key);
+        localCache.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        sharedCache.clear();
+        localCache.clear();
+    }
+}
@@ -4,9 +4,13 @@ import java.util.List;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurationSupport;
 
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
 import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
 
 @Configuration
@@ -22,4 +26,18 @@ public class ResolverConfig extends WebMvcConfigurationSupport {
         super.addArgumentResolvers(argumentResolvers);
     }
 
+    /*
+     * The converters built by WebMvcConfigurationSupport don't use Boot's ObjectMapper, so its
+     * Module beans never reach them. This covers the JSON one and the CBOR one that is added
+     * because jackson-dataformat-cbor is on the classpath (Accept: application/cbor).
+     */
+    @Override
+    protected void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if(converter instanceof AbstractJackson2HttpMessageConverter) {
+                ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper().registerModule(new BlackbirdModule());
+            }
+        }
+    }
+
 }
@@ -0,0 +1,98 @@
+package com.ead.authuser.configs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.ead.authuser.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Data;
+
+/**
+ * Active once at least one replica is configured under ead.datasource.replicas. The primary keeps
+ * using the spring.datasource settings; each target gets its own Hikari pool, tagged by pool name
+ * in the hikaricp.* metrics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ead.datasource.replicas[0].url")
+public class RoutingDataSourceConfig {
+
+    @Data
+    public static class ReplicaProperties {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+
+    @Data
+    public static class RoutingProperties {
+        private List<ReplicaProperties> replicas = new ArrayList<>();
+    }
+
+    @Bean
+    @ConfigurationProperties("ead.datasource")
+    public RoutingProperties routingProperties() {
+        return new RoutingProperties();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, RoutingProperties routingProperties) {
+        Map<Object, Object> targets = new HashMap<>();
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+
+        List<String> replicaKeys = new ArrayList<>();
+        for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+            ReplicaProperties replicaProperties = routingProperties.getReplicas().get(i);
+            var replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaProperties.getUrl());
+            replica.setUsername(replicaProperties.getUsername());
+            replica.setPassword(replicaProperties.getPassword());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            targets.put(replica.getPoolName(), replica);
+            replicaKeys.add(replica.getPoolName());
+        }
+
+        var routingDataSource = new ReplicaRoutingDataSource(replicaKeys);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /*
+     * Boot only instruments pools it can unwrap from DataSource beans, which these aren't. Bound
+     * from a MeterBinder rather than in dataSource() to keep the registry out of its dependencies.
+     */
+    @Bean
+    public MeterBinder routingDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            var routingDataSource = (ReplicaRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource();
+            for (DataSource target : routingDataSource.getResolvedDataSources().values()) {
+                var pool = (HikariDataSource) target;
+                if(pool.getMetricsTrackerFactory() == null) {
+                    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                }
+            }
+        };
+    }
+}
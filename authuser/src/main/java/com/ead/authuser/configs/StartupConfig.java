@@ -0,0 +1,45 @@
+package com.ead.authuser.configs;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ead.authuser.services.AuditService;
+import com.ead.authuser.services.OutboxService;
+import com.ead.authuser.services.UserIndexService;
+import com.ead.authuser.services.UserStatisticsService;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Configuration
+public class StartupConfig {
+
+    /*
+     * With the "lazy" profile, beans are created on first use. These own background threads (audit
+     * writer, outbox relay, statistics reconciliation, signup index warm-up) that must run whether
+     * or not a request ever reaches them.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter backgroundServicesLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AuditService.class, OutboxService.class, UserStatisticsService.class, UserIndexService.class);
+    }
+
+    /*
+     * AppCDS training run (the appcds Maven profile): start fully, then exit so the JVM dumps the
+     * archive with every class a real startup loads.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ead.startup.exit-after-ready", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> exitAfterReady() {
+        return event -> {
+            log.info("Started, exiting because ead.startup.exit-after-ready is set");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.ead.authuser.configs;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Opt-in (ead.web.virtual-threads.enabled, off by default) request handling on virtual threads. The
+ * build still targets Java 11, so the JDK 21 executor is looked up reflectively and startup fails
+ * loudly on older runtimes. Keep it off until a UserLoadTest run shows it beating the platform pool.
+ * <p>
+ * Blocking JDBC does not simply park the virtual thread here: the pgjdbc version Boot 2.7 manages
+ * (42.3.x) does its socket I/O inside synchronized blocks, which pins the carrier thread for the
+ * whole round trip. Only requests holding a connection can be pinned that way, and Hikari already
+ * bounds those to maximum-pool-size (the rest park in getConnection, unpinned, for up to
+ * connectionTimeout), so requests themselves are not capped; a pool larger than the carrier count
+ * can still pin every carrier, which is logged at startup.
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "ead.web.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    int maximumPoolSize;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors());
+        if(maximumPoolSize > carriers) {
+            log.warn("Hikari maximum-pool-size {} exceeds the {} virtual thread carriers; pgjdbc before 42.6 pins a carrier"
+                    + " per connection in use, so JDBC-bound requests can stall every other request", maximumPoolSize, carriers);
+        }
+        log.info("Tomcat requests will run on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("ead.web.virtual-threads.enabled requires a Java 21+ runtime, running on "
+                    + Runtime.version(), e);
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.ead.authuser.controllers;
 
 import com.ead.authuser.dtos.UserDTO;
+import com.ead.authuser.enums.AuditEventType;
 import com.ead.authuser.enums.UserStatus;
 import com.ead.authuser.enums.UserType;
 import com.ead.authuser.models.UserModel;
+import com.ead.authuser.services.AuditService;
+import com.ead.authuser.services.PasswordHashingService;
+import com.ead.authuser.services.UserImportService;
 import com.ead.authuser.services.UserService;
 import com.fasterxml.jackson.annotation.JsonView;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -19,8 +24,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Log4j2
 @RestController
@@ -31,6 +40,15 @@ public class AuthenticationController {
     @Autowired
     UserService userService;
 
+    @Autowired
+    UserImportService userImportService;
+
+    @Autowired
+    AuditService auditService;
+
+    @Autowired
+    PasswordHashingService passwordHashingService;
+
     @PostMapping("/signup")
     public ResponseEntity<Object> registerUser(
         @RequestBody
@@ -38,7 +56,7 @@ public class AuthenticationController {
         @JsonView(UserDTO.UserView.RegistrationPost.class)
         UserDTO userDTO) {
 
-        log.debug("[POST registerUser] UserDTO received {}", userDTO.toString());
+        log.debug("[POST registerUser] Signup received for username {}", userDTO.getUsername());
         if(userService.existsByUsername(userDTO.getUsername())) {
             log.warn("Username {} already taken!", userDTO.getUsername());
             return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Username already taken!");
@@ -51,17 +69,45 @@ public class AuthenticationController {
 
         var userModel = new UserModel();
         BeanUtils.copyProperties(userDTO, userModel);
+        try {
+            userModel.setPassword(passwordHashingService.hash(userDTO.getPassword()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Error: Too many signups right now, try again later!");
+        }
         userModel.setUserStatus(UserStatus.ACTIVE);
         userModel.setUserType(UserType.STUDENT);
         userModel.setCreationDate(LocalDateTime.now(ZoneId.of("UTC")));
         userModel.setLastUpdateDate(LocalDateTime.now(ZoneId.of("UTC")));
-        userService.save(userModel);
+        try {
+            userService.save(userModel);
+        } catch (DataIntegrityViolationException e) {
+            // The uniqueness checks above are only a fast path; the unique constraints decide races
+            if(userService.existsByUsernameOnPrimary(userDTO.getUsername())) {
+                log.warn("Username {} already taken!", userDTO.getUsername());
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Username already taken!");
+            }
+            if(userService.existsByEmailOnPrimary(userDTO.getEmail())) {
+                log.warn("Email {} already taken!", userDTO.getEmail());
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Email already taken!");
+            }
+            throw e;
+        }
         log.debug("[POST registerUser] UserModel saved successfully. UserID: {}", userModel.getUserId());
         log.info("[POST registerUser] User saved successfully. UserID: {}", userModel.getUserId());
+        auditService.publish(AuditEventType.USER_SIGNUP, userModel.getUserId(), userDTO);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(userModel);
     }
 
+    @PostMapping(value = "/signup/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<Object> registerUsersBulk(InputStream ndjson) throws IOException {
+        log.debug("[POST registerUsersBulk] Bulk import started");
+        var report = userImportService.importUsers(ndjson);
+        log.info("[POST registerUsersBulk] Bulk import finished. Imported: {}, rejected: {}", report.getImported(), report.getRejected());
+        auditService.publish(AuditEventType.USERS_IMPORTED, null, Map.of("imported", report.getImported(), "rejected", report.getRejected()));
+        return ResponseEntity.status(HttpStatus.OK).body(report);
+    }
+
     @GetMapping("/")
     public String index() {
         log.trace("TRACE"); // Quando queremos uma granularidade maior...
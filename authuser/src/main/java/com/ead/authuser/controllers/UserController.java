@@ -1,37 +1,73 @@
 package com.ead.authuser.controllers;
 
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.validation.Valid;
 
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.Link;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.ead.authuser.dtos.CursorPageDTO;
+import com.ead.authuser.dtos.UserBatchDTO;
+import com.ead.authuser.dtos.UserBatchResultDTO;
 import com.ead.authuser.dtos.UserDTO;
+import com.ead.authuser.dtos.UserPurgeJobDTO;
+import com.ead.authuser.dtos.UserSuggestionDTO;
+import com.ead.authuser.dtos.UserSummaryDTO;
+import com.ead.authuser.dtos.UserStatisticsDTO;
+import com.ead.authuser.dtos.UserVersionDTO;
+import com.ead.authuser.enums.AuditEventType;
+import com.ead.authuser.enums.UpdateResult;
 import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.projections.UserCredentialsView;
+import com.ead.authuser.services.AuditService;
+import com.ead.authuser.services.PasswordHashingService;
+import com.ead.authuser.services.UserExportService;
+import com.ead.authuser.services.UserPurgeService;
 import com.ead.authuser.services.UserService;
+import com.ead.authuser.services.UserStatisticsService;
 import com.ead.authuser.specifications.SpecificationTemplate;
 import com.fasterxml.jackson.annotation.JsonView;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Log4j2
 @RestController
@@ -39,128 +75,410 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @RequestMapping("/users")
 public class UserController {
 
+    private static final int MAX_KEYSET_PAGE_SIZE = 2000;
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private static final String VERSION_MISMATCH = "User was modified by another request!";
+
     @Autowired
     UserService userService;
 
+    @Autowired
+    UserExportService userExportService;
+
+    @Autowired
+    AuditService auditService;
+
+    @Autowired
+    PasswordHashingService passwordHashingService;
+
+    @Autowired
+    UserPurgeService userPurgeService;
+
+    @Autowired
+    UserStatisticsService userStatisticsService;
+
+    @Value("${ead.http.cache-control.max-age:0s}")
+    Duration cacheMaxAge;
+
+    @Value("${ead.http.cache-control.public:false}")
+    boolean cachePublic;
+
     @GetMapping
-    public ResponseEntity<Page<UserModel>> getAllUsers(
+    public ResponseEntity<Page<UserSummaryDTO>> getAllUsers(
             SpecificationTemplate.UserSpec spec,
             @PageableDefault(page = 0, size = 10, sort = "userId", direction = Sort.Direction.ASC) Pageable pageable,
             @RequestParam(required = false) UUID courseId) {
 
-        Page<UserModel> userModelPage = null;
+        Page<UserSummaryDTO> userPage = null;
         if(courseId != null) {
-            userModelPage = userService.findAll(SpecificationTemplate.userCourseId(courseId).and(spec), pageable);
+            userPage = userService.findAllSummaries(SpecificationTemplate.userCourseId(courseId).and(spec), pageable);
         } else {
-            userModelPage = userService.findAll(spec, pageable);
+            userPage = userService.findAllSummaries(spec, pageable);
         }
 
-        if(!userModelPage.isEmpty()) {
-            for (UserModel userModel : userModelPage.toList()) {
-                userModel.add(linkTo(methodOn(UserController.class).getOneUser(userModel.getUserId())).withSelfRel());
+        if(!userPage.isEmpty()) {
+            // Resolve the /users base once per page instead of proxying getOneUser for every row
+            String usersUri = linkTo(UserController.class).toUri().toString();
+            for (UserSummaryDTO user : userPage) {
+                user.add(Link.of(usersUri + "/" + user.getUserId()));
             }
         }
-        return ResponseEntity.status(HttpStatus.OK).body(userModelPage);
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(userCacheControl()).body(userPage);
+    }
+
+    @GetMapping("keyset")
+    public ResponseEntity<Object> getAllUsersKeyset(
+            SpecificationTemplate.UserSpec spec,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) UUID courseId) {
+
+        UUID afterUserId = null;
+        if(after != null && !after.isBlank()) {
+            try {
+                afterUserId = CursorPageDTO.decodeCursor(after);
+            } catch (IllegalArgumentException e) {
+                log.warn("[GET getAllUsersKeyset] Invalid cursor {} received!", after);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid cursor!");
+            }
+        }
+        size = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+
+        Slice<UserModel> userModelSlice = null;
+        if(courseId != null) {
+            userModelSlice = userService.findAllAfter(SpecificationTemplate.userCourseId(courseId).and(spec), afterUserId, size);
+        } else {
+            userModelSlice = userService.findAllAfter(spec, afterUserId, size);
+        }
+
+        UUID lastUserId = null;
+        String usersUri = linkTo(UserController.class).toUri().toString();
+        for (UserModel userModel : userModelSlice) {
+            userModel.add(Link.of(usersUri + "/" + userModel.getUserId()));
+            lastUserId = userModel.getUserId();
+        }
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(userCacheControl()).body(CursorPageDTO.of(userModelSlice, lastUserId));
+    }
+
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            SpecificationTemplate.UserSpec spec,
+            @RequestParam(defaultValue = "NDJSON") UserExportService.Format format,
+            @RequestParam(required = false) UUID courseId) {
+
+        Specification<UserModel> exportSpec = courseId != null ? SpecificationTemplate.userCourseId(courseId).and(spec) : spec;
+        StreamingResponseBody body = out -> {
+            long exported = userExportService.exportUsers(exportSpec, format, out);
+            log.info("[GET exportUsers] {} users exported as {}", exported, format);
+        };
+        MediaType contentType = format == UserExportService.Format.CSV ?
+                new MediaType("text", "csv") : new MediaType("application", "x-ndjson");
+        return ResponseEntity.status(HttpStatus.OK).contentType(contentType).body(body);
+    }
+
+    @GetMapping("search")
+    public ResponseEntity<Object> searchUsers(
+            @RequestParam(value = "q", required = false) String text,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        if(text == null || text.isBlank()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Search text is required!");
+        }
+        List<UserModel> users = userService.search(text, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+        String usersUri = linkTo(UserController.class).toUri().toString();
+        for (UserModel userModel : users) {
+            userModel.add(Link.of(usersUri + "/" + userModel.getUserId()));
+        }
+        log.debug("[GET searchUsers] {} users found for {}", users.size(), text);
+        return ResponseEntity.status(HttpStatus.OK).body(users);
+    }
+
+    @GetMapping("autocomplete")
+    public ResponseEntity<Object> autocompleteUsers(
+            @RequestParam(value = "q", required = false) String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if(prefix == null || prefix.isBlank()) {
+            return ResponseEntity.status(HttpStatus.OK).body(List.of());
+        }
+        List<UserSuggestionDTO> suggestions = userService.autocomplete(prefix, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+        return ResponseEntity.status(HttpStatus.OK).body(suggestions);
+    }
+
+    @PostMapping("purge")
+    public ResponseEntity<Object> purgeUsers(
+            SpecificationTemplate.UserSpec spec,
+            @RequestParam(required = false) UUID courseId) {
+
+        if(spec == null && courseId == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("At least one filter is required to purge users!");
+        }
+        Specification<UserModel> purgeSpec = courseId != null ? SpecificationTemplate.userCourseId(courseId).and(spec) : spec;
+        UserPurgeJobDTO job;
+        try {
+            job = userPurgeService.startPurge(purgeSpec);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Too many purges running right now, try again later!");
+        }
+        log.info("[POST purgeUsers] Purge job {} started", job.getJobId());
+        URI location = URI.create(linkTo(UserController.class).toUri() + "/purge/" + job.getJobId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).location(location).body(job);
+    }
+
+    @GetMapping("purge/{jobId}")
+    public ResponseEntity<Object> getPurgeJob(@PathVariable(value = "jobId") UUID jobId) {
+        Optional<UserPurgeJobDTO> jobOptional = userPurgeService.findJob(jobId);
+        return jobOptional.isPresent() ?
+                ResponseEntity.status(HttpStatus.OK).body(jobOptional.get()) :
+                ResponseEntity.status(HttpStatus.NOT_FOUND).body("Purge job doesn't exist!");
+    }
+
+    @GetMapping("statistics")
+    public ResponseEntity<Object> getUserStatistics() {
+        Optional<UserStatisticsDTO> statisticsOptional = userStatisticsService.getStatistics();
+        if(statisticsOptional.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Statistics are not available yet!");
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(statisticsOptional.get());
+    }
+
+    @PostMapping("batch")
+    public ResponseEntity<Object> getUsersBatch(@RequestBody @Valid UserBatchDTO userBatchDTO) {
+        List<UserModel> users = userService.findAllById(userBatchDTO.getUserIds());
+        Set<UUID> notFound = new HashSet<>(userBatchDTO.getUserIds());
+        users.forEach(userModel -> notFound.remove(userModel.getUserId()));
+        log.debug("[POST getUsersBatch] {} of {} users found", users.size(), userBatchDTO.getUserIds().size());
+        return ResponseEntity.status(HttpStatus.OK).body(new UserBatchResultDTO(users, notFound));
     }
 
     @GetMapping("{userId}")
-    public ResponseEntity<Object> getOneUser(@PathVariable(value = "userId") UUID userId) {
-        Optional<UserModel> userModelOptional = userService.findById(userId);
+    public ResponseEntity<Object> getOneUser(
+            @PathVariable(value = "userId") UUID userId,
+            @RequestHeader HttpHeaders requestHeaders) {
+
         log.debug("[GET getOneUser] UserId {} received!", userId);
-        return userModelOptional.isPresent() ?
-                ResponseEntity.status(HttpStatus.OK).body(userModelOptional.get()) :
-                ResponseEntity.status(HttpStatus.NOT_FOUND).body("User doesn't exist!");
+        // Conditional requests are answered from the version alone when nothing changed
+        if(requestHeaders != null && (!requestHeaders.getIfNoneMatch().isEmpty() || requestHeaders.getIfModifiedSince() != -1)) {
+            Optional<UserVersionDTO> versionOptional = userService.findVersionById(userId);
+            if(versionOptional.isPresent()) {
+                var version = versionOptional.get();
+                String eTag = "\"" + version.getVersion() + "\"";
+                long lastModified = version.getLastUpdateDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+                if(isNotModified(requestHeaders, eTag, lastModified)) {
+                    log.debug("[GET getOneUser] UserId {} not modified", userId);
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(eTag).lastModified(lastModified).cacheControl(userCacheControl()).build();
+                }
+            }
+        }
+
+        Optional<UserModel> userModelOptional = userService.findById(userId);
+        if(userModelOptional.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User doesn't exist!");
+        }
+        var userModel = userModelOptional.get();
+        return withValidators(ResponseEntity.status(HttpStatus.OK).cacheControl(userCacheControl()), userModel).body(userModel);
     }
 
     @DeleteMapping("{userId}")
     public ResponseEntity<Object> deleteUser(@PathVariable(value = "userId") UUID userId) {
         log.debug("[DELETE deleteUser] UserId {} received!", userId);
-        Optional<UserModel> userModelOptional = userService.findById(userId);
-        if(userModelOptional.isEmpty()) {
+        if(!userService.deleteById(userId)) {
             log.warn("[DELETE deleteUser] User {} doesn't exist!", userId);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User doesn't exist!");
         }
 
-        userService.delete(userModelOptional.get());
         log.info("[DELETE deleteUser] User deleted successfully! UserId: {}", userId);
+        auditService.publish(AuditEventType.USER_DELETED, userId, null);
         return ResponseEntity.status(HttpStatus.OK).body("User deleted successfully!");
     }
 
     @PutMapping("{userId}")
     public ResponseEntity<Object> updateUser(
         @PathVariable(value = "userId") UUID userId,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody 
         @Validated(UserDTO.UserView.UserPut.class)
         @JsonView(UserDTO.UserView.UserPut.class) UserDTO userDTO) {
 
-            log.debug("[PUT updateUser] UserDTO received: {}", userDTO.toString());
-            Optional<UserModel> userModelOptional = userService.findById(userId);
-            if(userModelOptional.isEmpty()) {
-                log.warn("[PUT updateUser] UserID {} doesn't exist!", userId);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User doesn't exist!");
+            log.debug("[PUT updateUser] UserId {} received!", userId);
+            Long expectedVersion;
+            try {
+                expectedVersion = parseIfMatch(ifMatch);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(VERSION_MISMATCH);
             }
 
-            var userModel = userModelOptional.get();
-            userModel.setFullName(userDTO.getFullName());
-            userModel.setCpf(userDTO.getCpf());
-            userModel.setPhoneNumber(userDTO.getPhoneNumber());
-            userModel.setLastUpdateDate(LocalDateTime.now(ZoneId.of("UTC")));
-            userService.save(userModel);
-            log.debug("[PUT updateUser] User updated. UserID: {}", userModel.getUserId());
-            log.info("[PUT updateUser] User {} updated successfully!", userModel.getUserId());
+            Map<String, Object> changes = new HashMap<>();
+            changes.put("fullName", userDTO.getFullName());
+            changes.put("cpf", userDTO.getCpf());
+            changes.put("phoneNumber", userDTO.getPhoneNumber());
+            changes.put("lastUpdateDate", LocalDateTime.now(ZoneId.of("UTC")));
+            UpdateResult result = userService.update(userId, expectedVersion, changes);
+            if(result != UpdateResult.UPDATED) {
+                log.warn("[PUT updateUser] UserID {} not updated: {}", userId, result);
+                return updateFailure(result);
+            }
 
-            return ResponseEntity.status(HttpStatus.OK).body(userModel);
+            log.info("[PUT updateUser] User {} updated successfully!", userId);
+            auditService.publish(AuditEventType.USER_UPDATED, userId, userDTO);
+            return updatedUser(userId);
     }
 
     @PutMapping("{userId}/password")
     public ResponseEntity<Object> updatePassword(
         @PathVariable(value = "userId") UUID userId,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody 
         @Validated(UserDTO.UserView.PasswordPut.class)
         @JsonView(UserDTO.UserView.PasswordPut.class) UserDTO userDTO) {
 
             log.debug("[PUT updatePassword] UserId {} received!", userId);
-            Optional<UserModel> userModelOptional = userService.findById(userId);
-            if(userModelOptional.isEmpty()) {
+            Long expectedVersion;
+            try {
+                expectedVersion = parseIfMatch(ifMatch);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(VERSION_MISMATCH);
+            }
+
+            Optional<UserCredentialsView> credentialsOptional = userService.findCredentialsById(userId);
+            if(credentialsOptional.isEmpty()) {
                 log.warn("[PUT updatePassword] UserID {} doesn't exist!", userId);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User doesn't exist!");
             }
+            var credentials = credentialsOptional.get();
+            if(expectedVersion != null && !expectedVersion.equals(credentials.getVersion())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(VERSION_MISMATCH);
+            }
 
-            if(!userDTO.getOldPassword().equals(userModelOptional.get().getPassword())) {
-                log.warn("[PUT updatePassword] Old password doesn't match. UserID {}", userId);
-                return ResponseEntity.status(HttpStatus.CONFLICT).body("Old password doesn't match!");
+            String newPasswordHash;
+            try {
+                if(!passwordHashingService.verify(userDTO.getOldPassword(), credentials.getPassword())) {
+                    log.warn("[PUT updatePassword] Old password doesn't match. UserID {}", userId);
+                    return ResponseEntity.status(HttpStatus.CONFLICT).body("Old password doesn't match!");
+                }
+                newPasswordHash = passwordHashingService.hash(userDTO.getPassword());
+            } catch (RejectedExecutionException e) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Too many password changes right now, try again later!");
+            }
+
+            // Conditional on the version the old password was checked against, so a concurrent change can't be overwritten
+            Map<String, Object> changes = new HashMap<>();
+            changes.put("password", newPasswordHash);
+            changes.put("lastUpdateDate", LocalDateTime.now(ZoneId.of("UTC")));
+            UpdateResult result = userService.update(userId, credentials.getVersion(), changes);
+            if(result != UpdateResult.UPDATED) {
+                log.warn("[PUT updatePassword] UserID {} not updated: {}", userId, result);
+                return updateFailure(result);
             }
 
-            var userModel = userModelOptional.get();
-            userModel.setPassword(userDTO.getPassword());
-            userModel.setLastUpdateDate(LocalDateTime.now(ZoneId.of("UTC")));
-            userService.save(userModel);
             log.info("[PUT updatePassword] Password updated successfully. UserID: {}", userId);
-            return ResponseEntity.status(HttpStatus.OK).body("Password updated successfully!");
+            auditService.publish(AuditEventType.PASSWORD_CHANGED, userId, null);
+            return updated(credentials.getVersion(), "Password updated successfully!");
     }
 
     @PutMapping("{userId}/image")
     public ResponseEntity<Object> updateImage(
         @PathVariable(value = "userId") UUID userId,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody 
         @Validated(UserDTO.UserView.ImagePut.class)
         @JsonView(UserDTO.UserView.ImagePut.class) UserDTO userDTO) {
 
             log.debug("[PUT updateImage] UserID {} received!", userId);
-            Optional<UserModel> userModelOptional = userService.findById(userId);
+            Long expectedVersion;
+            try {
+                expectedVersion = parseIfMatch(ifMatch);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(VERSION_MISMATCH);
+            }
 
-            if(userModelOptional.isEmpty()) {
-                log.warn("[PUT updateImage] UserID {} doesn't exist!", userId);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User doesn't exist!");
+            Map<String, Object> changes = new HashMap<>();
+            changes.put("imageUrl", userDTO.getImageUrl());
+            changes.put("lastUpdateDate", LocalDateTime.now(ZoneId.of("UTC")));
+            UpdateResult result = userService.update(userId, expectedVersion, changes);
+            if(result != UpdateResult.UPDATED) {
+                log.warn("[PUT updateImage] UserID {} not updated: {}", userId, result);
+                return updateFailure(result);
             }
 
-            var userModel = userModelOptional.get();
-            userModel.setImageUrl(userDTO.getImageUrl());
-            userModel.setLastUpdateDate(LocalDateTime.now(ZoneId.of("UTC")));
-            userService.save(userModel);
             log.info("[PUT updateImage] Image updated successfully. UserID: {}", userId);
+            auditService.publish(AuditEventType.IMAGE_CHANGED, userId, userDTO);
+            return updatedUser(userId);
+    }
+
+    /*
+     * The ETag of a user is its version. Returns null when the update should be unconditional
+     * (no If-Match or "*"), and throws when the tag can't be a version of this resource.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        if(ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if(tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        return Long.valueOf(tag.replace("\"", ""));
+    }
+
+    /*
+     * The representation after the update, as PUT returned it before updates became conditional.
+     * Read back rather than assembled from the changes, so the ETag matches the body.
+     */
+    private ResponseEntity<Object> updatedUser(UUID userId) {
+        Optional<UserModel> userModelOptional = userService.findById(userId);
+        if(userModelOptional.isEmpty()) {
+            // Deleted right after the update
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User doesn't exist!");
+        }
+        var userModel = userModelOptional.get();
+        return withValidators(ResponseEntity.status(HttpStatus.OK), userModel).body(userModel);
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder response, UserModel userModel) {
+        if(userModel.getVersion() != null) {
+            response.eTag(String.valueOf(userModel.getVersion()));
+        }
+        if(userModel.getLastUpdateDate() != null) {
+            response.lastModified(userModel.getLastUpdateDate().toInstant(ZoneOffset.UTC));
+        }
+        return response;
+    }
+
+    private static ResponseEntity<Object> updated(Long expectedVersion, String message) {
+        var response = ResponseEntity.status(HttpStatus.OK);
+        // The new version is only known without another query when the update was conditional
+        if(expectedVersion != null) {
+            response.eTag(String.valueOf(expectedVersion + 1));
+        }
+        return response.body(message);
+    }
+
+    private static ResponseEntity<Object> updateFailure(UpdateResult result) {
+        return result == UpdateResult.VERSION_MISMATCH ?
+                ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(VERSION_MISMATCH) :
+                ResponseEntity.status(HttpStatus.NOT_FOUND).body("User doesn't exist!");
+    }
+
+    /*
+     * Same rules the response processing applies (If-None-Match wins over If-Modified-Since,
+     * weak comparison, second precision), evaluated before the entity is loaded.
+     */
+    private static boolean isNotModified(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if(!ifNoneMatch.isEmpty()) {
+            return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || tag.replaceFirst("^W/", "").equals(eTag));
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
 
-            return ResponseEntity.status(HttpStatus.OK).body(userModel);
+    private CacheControl userCacheControl() {
+        var cacheControl = CacheControl.maxAge(cacheMaxAge).mustRevalidate();
+        return cachePublic ? cacheControl.cachePublic() : cacheControl.cachePrivate();
     }
 
 }
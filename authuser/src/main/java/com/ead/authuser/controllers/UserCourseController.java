@@ -0,0 +1,96 @@
+package com.ead.authuser.controllers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.validation.Valid;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ead.authuser.dtos.CourseStatisticsDTO;
+import com.ead.authuser.dtos.EnrollmentDTO;
+import com.ead.authuser.dtos.EnrollmentResultDTO;
+import com.ead.authuser.enums.AuditEventType;
+import com.ead.authuser.services.AuditService;
+import com.ead.authuser.services.UserCourseService;
+import com.ead.authuser.services.UserStatisticsService;
+
+@Log4j2
+@RestController
+@CrossOrigin(origins = "*", maxAge = 36000)
+@RequestMapping("/courses/{courseId}/users")
+public class UserCourseController {
+
+    @Autowired
+    UserCourseService userCourseService;
+
+    @Autowired
+    AuditService auditService;
+
+    @Autowired
+    UserStatisticsService userStatisticsService;
+
+    @PostMapping
+    public ResponseEntity<Object> enrollUsers(
+            @PathVariable(value = "courseId") UUID courseId,
+            @RequestBody @Valid EnrollmentDTO enrollmentDTO) {
+
+        log.debug("[POST enrollUsers] {} users received for course {}", enrollmentDTO.getUserIds().size(), courseId);
+        int enrolled = userCourseService.enroll(courseId, enrollmentDTO.getUserIds());
+        log.info("[POST enrollUsers] {} users enrolled in course {}", enrolled, courseId);
+        auditService.publish(AuditEventType.USERS_ENROLLED, null, Map.of("courseId", courseId, "enrolled", enrolled));
+        return ResponseEntity.status(HttpStatus.OK).body(new EnrollmentResultDTO(courseId, enrollmentDTO.getUserIds().size(), enrolled));
+    }
+
+    @PostMapping("unenroll")
+    public ResponseEntity<Object> unenrollUsers(
+            @PathVariable(value = "courseId") UUID courseId,
+            @RequestBody @Valid EnrollmentDTO enrollmentDTO) {
+
+        log.debug("[POST unenrollUsers] {} users received for course {}", enrollmentDTO.getUserIds().size(), courseId);
+        int unenrolled = userCourseService.unenroll(courseId, enrollmentDTO.getUserIds());
+        log.info("[POST unenrollUsers] {} users unenrolled from course {}", unenrolled, courseId);
+        auditService.publish(AuditEventType.USERS_UNENROLLED, null, Map.of("courseId", courseId, "unenrolled", unenrolled));
+        return ResponseEntity.status(HttpStatus.OK).body(new EnrollmentResultDTO(courseId, enrollmentDTO.getUserIds().size(), unenrolled));
+    }
+
+    @GetMapping("statistics")
+    public ResponseEntity<Object> getCourseStatistics(@PathVariable(value = "courseId") UUID courseId) {
+        Optional<CourseStatisticsDTO> statisticsOptional = userStatisticsService.getCourseStatistics(courseId);
+        if(statisticsOptional.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Statistics are not available yet!");
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(statisticsOptional.get());
+    }
+
+    @GetMapping("{userId}")
+    public ResponseEntity<Object> getEnrollment(
+            @PathVariable(value = "courseId") UUID courseId,
+            @PathVariable(value = "userId") UUID userId) {
+
+        return userCourseService.isEnrolled(courseId, userId) ?
+                ResponseEntity.status(HttpStatus.OK).body("User is enrolled in the course!") :
+                ResponseEntity.status(HttpStatus.NOT_FOUND).body("User isn't enrolled in the course!");
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Object> deleteCourseEnrollments(@PathVariable(value = "courseId") UUID courseId) {
+        log.debug("[DELETE deleteCourseEnrollments] CourseId {} received!", courseId);
+        int deleted = userCourseService.deleteAllByCourse(courseId);
+        log.info("[DELETE deleteCourseEnrollments] {} enrollments of course {} deleted", deleted, courseId);
+        auditService.publish(AuditEventType.COURSE_ENROLLMENTS_DELETED, null, Map.of("courseId", courseId, "deleted", deleted));
+        return ResponseEntity.status(HttpStatus.OK).body(new EnrollmentResultDTO(courseId, null, deleted));
+    }
+}
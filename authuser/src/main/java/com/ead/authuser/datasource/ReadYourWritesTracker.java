@@ -0,0 +1,37 @@
+package com.ead.authuser.datasource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers users written by this instance during the last stickiness window, so reads of them
+ * go to the primary until the replicas have caught up with the write.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<UUID, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(@Value("${ead.datasource.stickiness:5s}") Duration stickiness) {
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(stickiness)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite(UUID userId) {
+        if(userId != null) {
+            recentWrites.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isRecentlyWritten(UUID userId) {
+        return userId != null && recentWrites.getIfPresent(userId) != null;
+    }
+}
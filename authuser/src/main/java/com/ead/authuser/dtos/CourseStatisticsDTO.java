@@ -0,0 +1,21 @@
+package com.ead.authuser.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ead.authuser.serializers.UserDateTimeSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CourseStatisticsDTO {
+
+    private UUID courseId;
+    private long users;
+
+    @JsonSerialize(using = UserDateTimeSerializer.class)
+    private LocalDateTime reconciledAt;
+}
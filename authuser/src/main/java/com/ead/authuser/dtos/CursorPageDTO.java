@@ -0,0 +1,49 @@
+package com.ead.authuser.dtos;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorPageDTO<T> of(Slice<T> slice, UUID lastKey) {
+        var page = new CursorPageDTO<T>();
+        page.setContent(slice.getContent());
+        page.setSize(slice.getSize());
+        page.setHasNext(slice.hasNext());
+        if(slice.hasNext() && lastKey != null) {
+            page.setNextCursor(encodeCursor(lastKey));
+        }
+        return page;
+    }
+
+    public static String encodeCursor(UUID key) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(key.getMostSignificantBits());
+        buffer.putLong(key.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static UUID decodeCursor(String cursor) {
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if(bytes.length != 16) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
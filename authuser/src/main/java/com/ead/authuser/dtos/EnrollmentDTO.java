@@ -0,0 +1,17 @@
+package com.ead.authuser.dtos;
+
+import java.util.Set;
+import java.util.UUID;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+import lombok.Data;
+
+@Data
+public class EnrollmentDTO {
+
+    @NotEmpty
+    @Size(max = 200000)
+    private Set<UUID> userIds;
+}
@@ -0,0 +1,18 @@
+package com.ead.authuser.dtos;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EnrollmentResultDTO {
+
+    private UUID courseId;
+    private Integer requested;
+    private int affected;
+}
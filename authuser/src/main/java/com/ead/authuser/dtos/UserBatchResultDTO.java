@@ -0,0 +1,21 @@
+package com.ead.authuser.dtos;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.ead.authuser.models.UserModel;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UserBatchResultDTO {
+
+    private List<UserModel> users;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Set<UUID> notFound;
+}
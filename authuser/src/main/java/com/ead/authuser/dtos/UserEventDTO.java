@@ -0,0 +1,31 @@
+package com.ead.authuser.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+
+/**
+ * Payload of USER_CREATED, and of USER_UPDATED when the whole user was saved. Never carries the
+ * password; version lets consumers drop events older than what they already applied.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserEventDTO {
+
+    private UUID userId;
+    private String username;
+    private String email;
+    private String fullName;
+    private UserStatus userStatus;
+    private UserType userType;
+    private String phoneNumber;
+    private String cpf;
+    private String imageUrl;
+    private LocalDateTime lastUpdateDate;
+    private Long version;
+}
@@ -0,0 +1,23 @@
+package com.ead.authuser.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class UserImportReportDTO {
+
+    private long imported;
+    private long rejected;
+    private List<UserImportResultDTO> results = new ArrayList<>();
+
+    public void add(UserImportResultDTO result) {
+        if(result.getStatus() == UserImportResultDTO.Status.IMPORTED) {
+            imported++;
+        } else {
+            rejected++;
+        }
+        results.add(result);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ead.authuser.dtos;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResultDTO {
+
+    public enum Status { IMPORTED, INVALID, DUPLICATE, FAILED }
+
+    private long line;
+    private Status status;
+    private UUID userId;
+    private String message;
+}
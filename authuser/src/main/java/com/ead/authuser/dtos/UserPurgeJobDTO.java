@@ -0,0 +1,33 @@
+package com.ead.authuser.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+
+/**
+ * Progress of a background purge. Written only by the purge thread, read by status requests.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserPurgeJobDTO {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final UUID jobId;
+    private volatile Status status = Status.PENDING;
+    private volatile long matched;
+    private volatile long deleted;
+    private volatile String error;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+    private volatile LocalDateTime startedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+    private volatile LocalDateTime finishedAt;
+}
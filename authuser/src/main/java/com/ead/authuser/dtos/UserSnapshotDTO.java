@@ -0,0 +1,33 @@
+package com.ead.authuser.dtos;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+
+import lombok.Value;
+
+/**
+ * What the users cache holds: the columns of TB_USERS except the password, detached from any
+ * persistence context and immutable, so every reader gets its own UserModel built from it.
+ */
+@Value
+public class UserSnapshotDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    UUID userId;
+    String username;
+    String email;
+    String fullName;
+    UserStatus userStatus;
+    UserType userType;
+    String phoneNumber;
+    String cpf;
+    String imageUrl;
+    LocalDateTime creationDate;
+    LocalDateTime lastUpdateDate;
+    Long version;
+}
@@ -0,0 +1,25 @@
+package com.ead.authuser.dtos;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+import com.ead.authuser.serializers.UserDateTimeSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UserStatisticsDTO {
+
+    private long total;
+    private Map<UserType, Long> byType;
+    private Map<UserStatus, Long> byStatus;
+    private Map<UserType, Map<UserStatus, Long>> byTypeAndStatus;
+
+    @JsonSerialize(using = UserDateTimeSerializer.class)
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,19 @@
+package com.ead.authuser.dtos;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserSuggestionDTO {
+
+    private UUID userId;
+    private String username;
+    private String fullName;
+    private String imageUrl;
+}
@@ -0,0 +1,43 @@
+package com.ead.authuser.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.hateoas.RepresentationModel;
+
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+import com.ead.authuser.serializers.UserDateTimeSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Read-side view of TB_USERS for list pages, selected column by column so rows never become
+ * managed entities. Serializes to the same JSON shape as {@link com.ead.authuser.models.UserModel}.
+ */
+@Data
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserSummaryDTO extends RepresentationModel<UserSummaryDTO> {
+
+    private UUID userId;
+    private String username;
+    private String email;
+    private String fullName;
+    private UserStatus userStatus;
+    private UserType userType;
+    private String phoneNumber;
+    private String cpf;
+    private String imageUrl;
+
+    @JsonSerialize(using = UserDateTimeSerializer.class)
+    private LocalDateTime creationDate;
+
+    @JsonSerialize(using = UserDateTimeSerializer.class)
+    private LocalDateTime lastUpdateDate;
+}
@@ -0,0 +1,16 @@
+package com.ead.authuser.dtos;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+/**
+ * What conditional GETs compare against: the version backs the ETag, lastUpdateDate (UTC)
+ * the Last-Modified header.
+ */
+@Value
+public class UserVersionDTO {
+
+    Long version;
+    LocalDateTime lastUpdateDate;
+}
@@ -0,0 +1,7 @@
+package com.ead.authuser.enums;
+
+public enum AuditEventType {
+
+    USER_SIGNUP, USERS_IMPORTED, USER_UPDATED, PASSWORD_CHANGED, IMAGE_CHANGED, USER_DELETED,
+    USERS_ENROLLED, USERS_UNENROLLED, COURSE_ENROLLMENTS_DELETED, USERS_PURGED;
+}
@@ -0,0 +1,7 @@
+package com.ead.authuser.enums;
+
+public enum UpdateResult {
+    UPDATED,
+    NOT_FOUND,
+    VERSION_MISMATCH
+}
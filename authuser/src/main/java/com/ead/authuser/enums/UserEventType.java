@@ -0,0 +1,7 @@
+package com.ead.authuser.enums;
+
+public enum UserEventType {
+    USER_CREATED,
+    USER_UPDATED,
+    USER_DELETED
+}
@@ -0,0 +1,50 @@
+package com.ead.authuser.models;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import com.ead.authuser.enums.UserEventType;
+
+import lombok.Data;
+
+/**
+ * A user lifecycle event waiting to be published. Rows are inserted in the same transaction as
+ * the change they describe and deleted by the relay once the transport has accepted them.
+ */
+@Data
+@Entity
+@Table(name = "TB_USER_OUTBOX")
+public class OutboxEventModel implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // A pooled sequence rather than identity, so Hibernate can still batch the inserts of an import
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_outbox_seq")
+    @SequenceGenerator(name = "user_outbox_seq", sequenceName = "tb_user_outbox_seq", allocationSize = 50)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private UserEventType eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -9,15 +9,19 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.io.Serializable;
 import java.util.UUID;
 
 @Data
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Entity
-@Table(name = "TB_USERS_COURSES")
+@Table(name = "TB_USERS_COURSES", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_courses_course_user", columnNames = {"course_id", "user_user_id"})
+})
 public class UserCourseModel implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -27,8 +31,9 @@ public class UserCourseModel implements Serializable {
     private UUID userCourseId;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_user_id")
     private UserModel user;
 
-    @Column(nullable = false)
+    @Column(name = "course_id", nullable = false)
     private UUID courseId;
 }
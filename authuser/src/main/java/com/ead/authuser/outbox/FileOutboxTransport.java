@@ -0,0 +1,71 @@
+package com.ead.authuser.outbox;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ead.authuser.models.OutboxEventModel;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends each batch to a local NDJSON file and syncs it to disk before the relay deletes the
+ * rows. A stand-in for a broker when another local process wants to follow the events.
+ */
+@Component
+@ConditionalOnProperty(name = "ead.outbox.transport", havingValue = "file")
+public class FileOutboxTransport implements OutboxTransport {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxTransport(@Value("${ead.outbox.file.path:outbox/user-events.ndjson}") String path,
+                               ObjectMapper objectMapper) throws IOException {
+        this.path = Paths.get(path).toAbsolutePath();
+        this.objectMapper = objectMapper;
+        Files.createDirectories(this.path.getParent());
+    }
+
+    @Override
+    public void send(List<OutboxEventModel> events) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 256);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+                generator.setRootValueSeparator(null);
+                for (OutboxEventModel event : events) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("eventId", event.getEventId());
+                    generator.writeStringField("eventType", event.getEventType().name());
+                    generator.writeStringField("userId", event.getUserId().toString());
+                    generator.writeStringField("createdAt", event.getCreatedAt().toString());
+                    // Already JSON, written when the event was recorded
+                    generator.writeFieldName("payload");
+                    generator.writeRawValue(event.getPayload());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Outbox batch could not be written to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ead.authuser.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.ead.authuser.models.OutboxEventModel;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps the most recent events in memory, for tests and local runs that have no broker.
+ * Nothing leaves the process, so it only exists in the profiles that can't have real consumers.
+ */
+@Log4j2
+@Component
+@Profile({"test", "local", "benchmark"})
+@ConditionalOnProperty(name = "ead.outbox.transport", havingValue = "memory")
+public class InMemoryOutboxTransport implements OutboxTransport {
+
+    private final int capacity;
+    private final Deque<OutboxEventModel> events;
+
+    public InMemoryOutboxTransport(@Value("${ead.outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+        this.events = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    @Override
+    public synchronized void send(List<OutboxEventModel> batch) {
+        for (OutboxEventModel event : batch) {
+            if(events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+        log.debug("[outbox] {} events kept in memory", batch.size());
+    }
+
+    public synchronized List<OutboxEventModel> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,14 @@
+package com.ead.authuser.outbox;
+
+import java.util.List;
+
+import com.ead.authuser.models.OutboxEventModel;
+
+public interface OutboxTransport {
+
+    /**
+     * Delivers the batch, in order, or throws. A batch that throws is sent again on the next attempt,
+     * so delivery is at least once and consumers should deduplicate on the event id.
+     */
+    void send(List<OutboxEventModel> events);
+}
@@ -0,0 +1,34 @@
+package com.ead.authuser.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.ead.authuser.models.OutboxEventModel;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventModel, Long> {
+
+    /*
+     * A lock timeout of -2 is Hibernate's LockOptions.SKIP_LOCKED: "for update skip locked" on
+     * PostgreSQL, so relays on several instances take disjoint batches instead of waiting on each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEventModel e order by e.eventId")
+    List<OutboxEventModel> findNextBatch(Pageable pageable);
+
+    @Query("select e.createdAt from OutboxEventModel e order by e.eventId")
+    List<Instant> findOldestCreatedAt(Pageable pageable);
+
+    @Query(value = "select count(*) from (select 1 from tb_user_outbox limit :limit) pending", nativeQuery = true)
+    long countPending(@Param("limit") int limit);
+}
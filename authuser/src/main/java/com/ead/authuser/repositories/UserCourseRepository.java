@@ -1,9 +1,35 @@
 package com.ead.authuser.repositories;
 
 import com.ead.authuser.models.UserCourseModel;
+import com.ead.authuser.repositories.projections.CourseUserCountView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
-public interface UserCourseRepository extends JpaRepository<UserCourseModel, UUID> {
+public interface UserCourseRepository extends JpaRepository<UserCourseModel, UUID>, UserCourseRepositoryCustom {
+
+    boolean existsByCourseIdAndUserUserId(UUID courseId, UUID userId);
+
+    @Modifying
+    @Query("delete from UserCourseModel uc where uc.courseId = :courseId and uc.user.userId in :userIds")
+    int deleteByCourseIdAndUserIds(@Param("courseId") UUID courseId, @Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query("delete from UserCourseModel uc where uc.courseId = :courseId")
+    int deleteAllByCourseId(@Param("courseId") UUID courseId);
+
+    @Modifying
+    @Query("delete from UserCourseModel uc where uc.user.userId in :userIds")
+    int deleteAllByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("select uc.courseId as courseId, count(uc) as total from UserCourseModel uc group by uc.courseId")
+    List<CourseUserCountView> countByCourse();
+
+    @Query("select uc.courseId as courseId, count(uc) as total from UserCourseModel uc where uc.user.userId in :userIds group by uc.courseId")
+    List<CourseUserCountView> countByCourseForUsers(@Param("userIds") Collection<UUID> userIds);
 }
@@ -0,0 +1,13 @@
+package com.ead.authuser.repositories;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface UserCourseRepositoryCustom {
+
+    /**
+     * Enrolls the users in one INSERT ... SELECT per call. Unknown users and existing
+     * enrollments are skipped. Returns the number of enrollments created.
+     */
+    int enroll(UUID courseId, Collection<UUID> userIds);
+}
@@ -1,16 +1,67 @@
 package com.ead.authuser.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.ead.authuser.dtos.UserVersionDTO;
 import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.projections.UserCountView;
+import com.ead.authuser.repositories.projections.UserCredentialsView;
+import com.ead.authuser.repositories.projections.UserIdentityView;
+import com.ead.authuser.repositories.projections.UserTypeStatusView;
 
-public interface UserRepository extends JpaRepository<UserModel, UUID>, JpaSpecificationExecutor<UserModel> {
+public interface UserRepository extends JpaRepository<UserModel, UUID>, JpaSpecificationExecutor<UserModel>, UserRepositoryCustom {
 
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
 
+    @Query("select u.username from UserModel u where u.username in :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select u.email from UserModel u where u.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("select u.username as username, u.email as email from UserModel u")
+    Stream<UserIdentityView> streamAllIdentities();
+
+    @Query("select u.password as password, u.version as version from UserModel u where u.userId = :userId")
+    Optional<UserCredentialsView> findCredentialsById(@Param("userId") UUID userId);
+
+    @Query("select new com.ead.authuser.dtos.UserVersionDTO(u.version, u.lastUpdateDate) from UserModel u where u.userId = :userId")
+    Optional<UserVersionDTO> findVersionById(@Param("userId") UUID userId);
+
+    @Query("select u.userId as userId, u.userType as userType, u.userStatus as userStatus from UserModel u where u.userId in :userIds")
+    List<UserTypeStatusView> findTypeStatusByIds(@Param("userIds") Collection<UUID> userIds);
+
+    /*
+     * Read from the row, not from pending changes (no flush first), and locked until commit, so the
+     * caller knows exactly which values its update replaces.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    @Query(value = "select user_id as \"userId\", user_type as \"userType\", user_status as \"userStatus\""
+            + " from tb_users where user_id = :userId for update", nativeQuery = true)
+    Optional<UserTypeStatusView> lockTypeStatusById(@Param("userId") UUID userId);
+
+    @Query("select u.userType as userType, u.userStatus as userStatus, count(u) as total from UserModel u group by u.userType, u.userStatus")
+    List<UserCountView> countByTypeAndStatus();
+
+    @Modifying
+    @Query("delete from UserModel u where u.userId in :userIds")
+    int deleteAllByUserIds(@Param("userIds") Collection<UUID> userIds);
+
 }
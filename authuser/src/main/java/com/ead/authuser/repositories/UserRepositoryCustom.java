@@ -0,0 +1,54 @@
+package com.ead.authuser.repositories;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ead.authuser.dtos.UserSummaryDTO;
+import com.ead.authuser.models.UserModel;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Runs the specification with a plain LIMIT and no count query, so keyset (seek) pages
+     * cost the same no matter how deep the client is in the result set.
+     */
+    List<UserModel> findAll(Specification<UserModel> spec, Sort sort, int limit);
+
+    /** Same as {@link #findAll(Specification, Sort, int)}, selecting only the ids. */
+    List<UUID> findIds(Specification<UserModel> spec, Sort sort, int limit);
+
+    /**
+     * Forward-only, read-only cursor over the matching users. Must be consumed inside a
+     * transaction and closed; entities stay attached until the caller detaches them.
+     */
+    Stream<UserModel> stream(Specification<UserModel> spec, Sort sort, int fetchSize);
+
+    /**
+     * Page of {@link UserSummaryDTO} built by a constructor expression, so no entities are
+     * instantiated, snapshotted for dirty checking or kept in the persistence context.
+     */
+    Page<UserSummaryDTO> findAllSummaries(Specification<UserModel> spec, Pageable pageable);
+
+    /**
+     * Single UPDATE of the given attributes that also bumps the version. When expectedVersion
+     * is set the row only changes if it still has that version. Returns the affected row count.
+     */
+    int update(UUID userId, Long expectedVersion, Map<String, Object> changes);
+
+    /**
+     * Users matching every word of the text in their name, username or email, plus names that
+     * are merely similar (typos), best matches first. PostgreSQL only: needs the V2 migration.
+     */
+    List<UserModel> search(String text, int limit);
+
+    /** Users with words starting with the typed words, the last one possibly incomplete. */
+    List<UserModel> autocomplete(String prefix, int limit);
+
+}
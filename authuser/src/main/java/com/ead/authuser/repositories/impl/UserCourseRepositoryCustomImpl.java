@@ -0,0 +1,42 @@
+package com.ead.authuser.repositories.impl;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import com.ead.authuser.repositories.UserCourseRepositoryCustom;
+
+public class UserCourseRepositoryCustomImpl implements UserCourseRepositoryCustom {
+
+    /*
+     * The ids are sent as two parallel arrays, so the statement text is the same for every batch
+     * size. Joining tb_users drops unknown users instead of failing the whole batch on the FK.
+     */
+    private static final String ENROLL_SQL = "insert into tb_users_courses (user_course_id, course_id, user_user_id)"
+            + " select e.user_course_id, ?, u.user_id"
+            + " from unnest(?, ?) as e(user_course_id, user_id)"
+            + " join tb_users u on u.user_id = e.user_id"
+            + " on conflict do nothing";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int enroll(UUID courseId, Collection<UUID> userIds) {
+        UUID[] enrollmentIds = new UUID[userIds.size()];
+        for (int i = 0; i < enrollmentIds.length; i++) {
+            enrollmentIds[i] = UUID.randomUUID();
+        }
+        UUID[] users = userIds.toArray(new UUID[0]);
+
+        return jdbcTemplate.execute(ENROLL_SQL, (PreparedStatementCallback<Integer>) statement -> {
+            statement.setObject(1, courseId);
+            statement.setArray(2, statement.getConnection().createArrayOf("uuid", enrollmentIds));
+            statement.setArray(3, statement.getConnection().createArrayOf("uuid", users));
+            return statement.executeUpdate();
+        });
+    }
+}
@@ -0,0 +1,197 @@
+package com.ead.authuser.repositories.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.jpa.QueryHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ead.authuser.dtos.UserSummaryDTO;
+import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.UserRepositoryCustom;
+import com.ead.authuser.utils.TextNormalizer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    // Must stay identical to the expressions indexed in V2__user_search.sql
+    private static final String SEARCH_DOCUMENT = "to_tsvector('simple', f_unaccent(u.full_name || ' ' || u.username || ' ' || u.email))";
+    private static final String SEARCHABLE_NAME = "lower(f_unaccent(u.full_name))";
+
+    // The query text goes through the same parser as the document ('simple' keeps an email as one token),
+    // so whatever is indexed as a single lexeme can also be searched as one
+    private static final String SEARCH_QUERY = "plainto_tsquery('simple', f_unaccent(:query))";
+    // Same lexemes with the last one as a prefix; plainto_tsquery quotes each lexeme, so that is the closing quote.
+    // cast() rather than ::, which Hibernate would read as an escaped parameter colon
+    private static final String PREFIX_QUERY = "cast(regexp_replace(cast(" + SEARCH_QUERY + " as text), '''$', ''':*') as tsquery)";
+
+    private static final String SEARCH_SQL = "select u.* from tb_users u"
+            + " where " + SEARCH_DOCUMENT + " @@ " + SEARCH_QUERY
+            + " or " + SEARCHABLE_NAME + " % :text"
+            + " order by ts_rank(" + SEARCH_DOCUMENT + ", " + SEARCH_QUERY + ") desc,"
+            + " similarity(" + SEARCHABLE_NAME + ", :text) desc"
+            + " limit :limit";
+
+    private static final String AUTOCOMPLETE_SQL = "select u.* from tb_users u"
+            + " where " + SEARCH_DOCUMENT + " @@ " + PREFIX_QUERY
+            + " order by ts_rank(" + SEARCH_DOCUMENT + ", " + PREFIX_QUERY + ") desc, u.full_name"
+            + " limit :limit";
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Override
+    public List<UserModel> findAll(Specification<UserModel> spec, Sort sort, int limit) {
+        return entityManager.createQuery(buildQuery(spec, sort)).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<UUID> findIds(Specification<UserModel> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<UserModel> root = query.from(UserModel.class);
+        query.select(root.get("userId"));
+        applySpecification(spec, root, query, cb);
+        if(sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<UserModel> stream(Specification<UserModel> spec, Sort sort, int fetchSize) {
+        return entityManager.createQuery(buildQuery(spec, sort))
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Page<UserSummaryDTO> findAllSummaries(Specification<UserModel> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserSummaryDTO> query = cb.createQuery(UserSummaryDTO.class);
+        Root<UserModel> root = query.from(UserModel.class);
+        query.select(cb.construct(UserSummaryDTO.class,
+                root.get("userId"), root.get("username"), root.get("email"), root.get("fullName"),
+                root.get("userStatus"), root.get("userType"), root.get("phoneNumber"), root.get("cpf"),
+                root.get("imageUrl"), root.get("creationDate"), root.get("lastUpdateDate")));
+        applySpecification(spec, root, query, cb);
+        if(pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<UserSummaryDTO> typedQuery = entityManager.createQuery(query);
+        if(pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<UserSummaryDTO> content = queryTimer("page").record(typedQuery::getResultList);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryTimer("count").record(() -> count(spec)));
+    }
+
+    @Override
+    @Transactional
+    public int update(UUID userId, Long expectedVersion, Map<String, Object> changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<UserModel> update = cb.createCriteriaUpdate(UserModel.class);
+        Root<UserModel> root = update.from(UserModel.class);
+        changes.forEach(update::set);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+
+        Predicate predicate = cb.equal(root.get("userId"), userId);
+        if(expectedVersion != null) {
+            predicate = cb.and(predicate, cb.equal(root.get("version"), expectedVersion));
+        }
+        update.where(predicate);
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UserModel> search(String text, int limit) {
+        if(text == null || text.isBlank()) {
+            return List.of();
+        }
+        return nativeUserQuery(SEARCH_SQL, text, limit)
+                .setParameter("text", TextNormalizer.searchable(text))
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UserModel> autocomplete(String prefix, int limit) {
+        if(prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return nativeUserQuery(AUTOCOMPLETE_SQL, prefix, limit).getResultList();
+    }
+
+    private Query nativeUserQuery(String sql, String query, int limit) {
+        return entityManager.createNativeQuery(sql, UserModel.class)
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setHint(QueryHints.HINT_READONLY, true);
+    }
+
+    private long count(Specification<UserModel> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<UserModel> root = query.from(UserModel.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Timer queryTimer(String query) {
+        return Timer.builder("authuser.users.query")
+                .description("Time spent in the list endpoint's page and count queries")
+                .tag("query", query)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static void applySpecification(Specification<UserModel> spec, Root<UserModel> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if(spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if(predicate != null) {
+                query.where(predicate);
+            }
+        }
+    }
+
+    private CriteriaQuery<UserModel> buildQuery(Specification<UserModel> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserModel> query = cb.createQuery(UserModel.class);
+        Root<UserModel> root = query.from(UserModel.class);
+        applySpecification(spec, root, query, cb);
+        if(sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query.select(root);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ead.authuser.repositories.projections;
+
+import java.util.UUID;
+
+public interface CourseUserCountView {
+
+    UUID getCourseId();
+
+    long getTotal();
+}
@@ -0,0 +1,13 @@
+package com.ead.authuser.repositories.projections;
+
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+
+public interface UserCountView {
+
+    UserType getUserType();
+
+    UserStatus getUserStatus();
+
+    long getTotal();
+}
@@ -0,0 +1,8 @@
+package com.ead.authuser.repositories.projections;
+
+public interface UserIdentityView {
+
+    String getUsername();
+
+    String getEmail();
+}
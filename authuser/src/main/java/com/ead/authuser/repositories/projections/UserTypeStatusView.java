@@ -0,0 +1,15 @@
+package com.ead.authuser.repositories.projections;
+
+import java.util.UUID;
+
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+
+public interface UserTypeStatusView {
+
+    UUID getUserId();
+
+    UserType getUserType();
+
+    UserStatus getUserStatus();
+}
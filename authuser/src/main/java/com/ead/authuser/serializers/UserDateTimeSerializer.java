@@ -0,0 +1,55 @@
+package com.ead.authuser.serializers;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes the user timestamps as dd-MM-yyyy HH:mm:ss straight into a char buffer, the same output
+ * as the former {@code @JsonFormat} pattern without going through a DateTimeFormatter per value.
+ */
+public class UserDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String PATTERN = "dd-MM-yyyy HH:mm:ss";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+    private static final int LENGTH = PATTERN.length();
+
+    public UserDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if(value.getYear() < 0 || value.getYear() > 9999) {
+            generator.writeString(FORMATTER.format(value));
+            return;
+        }
+        char[] buffer = new char[LENGTH];
+        writeDigits(buffer, 0, value.getDayOfMonth(), 2);
+        buffer[2] = '-';
+        writeDigits(buffer, 3, value.getMonthValue(), 2);
+        buffer[5] = '-';
+        writeDigits(buffer, 6, value.getYear(), 4);
+        buffer[10] = ' ';
+        writeDigits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, value.getSecond(), 2);
+        generator.writeString(buffer, 0, LENGTH);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ead.authuser.services;
+
+import java.util.UUID;
+
+import com.ead.authuser.enums.AuditEventType;
+
+public interface AuditService {
+
+    /**
+     * Enqueues the event without blocking; if the buffer is full the event is dropped and counted.
+     * The payload must not be modified after it is handed over.
+     */
+    void publish(AuditEventType type, UUID userId, Object payload);
+}
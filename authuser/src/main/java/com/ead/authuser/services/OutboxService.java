@@ -0,0 +1,14 @@
+package com.ead.authuser.services;
+
+import java.util.UUID;
+
+import com.ead.authuser.enums.UserEventType;
+
+public interface OutboxService {
+
+    /**
+     * Records the event in the caller's transaction, which must exist; it is published by the relay
+     * only if that transaction commits. The payload is serialized to JSON right away.
+     */
+    void append(UserEventType type, UUID userId, Object payload);
+}
@@ -0,0 +1,17 @@
+package com.ead.authuser.services;
+
+import java.util.List;
+
+/**
+ * Password hashing and verification on a dedicated, bounded executor. When the executor is
+ * saturated the calls fail fast with {@link java.util.concurrent.RejectedExecutionException}
+ * instead of queueing unbounded CPU work behind the request threads.
+ */
+public interface PasswordHashingService {
+
+    String hash(String rawPassword);
+
+    List<String> hashAll(List<String> rawPasswords);
+
+    boolean verify(String rawPassword, String storedPassword);
+}
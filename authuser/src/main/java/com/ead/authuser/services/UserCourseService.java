@@ -1,4 +1,15 @@
 package com.ead.authuser.services;
 
+import java.util.Collection;
+import java.util.UUID;
+
 public interface UserCourseService {
+
+    int enroll(UUID courseId, Collection<UUID> userIds);
+
+    int unenroll(UUID courseId, Collection<UUID> userIds);
+
+    boolean isEnrolled(UUID courseId, UUID userId);
+
+    int deleteAllByCourse(UUID courseId);
 }
@@ -0,0 +1,15 @@
+package com.ead.authuser.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ead.authuser.models.UserModel;
+
+public interface UserExportService {
+
+    enum Format { NDJSON, CSV }
+
+    long exportUsers(Specification<UserModel> spec, Format format, OutputStream out) throws IOException;
+}
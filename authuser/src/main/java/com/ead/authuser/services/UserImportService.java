@@ -0,0 +1,11 @@
+package com.ead.authuser.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.ead.authuser.dtos.UserImportReportDTO;
+
+public interface UserImportService {
+
+    UserImportReportDTO importUsers(InputStream ndjson) throws IOException;
+}
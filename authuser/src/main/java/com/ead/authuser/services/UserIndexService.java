@@ -0,0 +1,20 @@
+package com.ead.authuser.services;
+
+import com.ead.authuser.models.UserModel;
+
+public interface UserIndexService {
+
+    enum IndexedField { USERNAME, EMAIL }
+
+    /**
+     * @return false only when the value is definitely not taken; true means "maybe", and the
+     * caller has to confirm against the database.
+     */
+    boolean mightContain(IndexedField field, String value);
+
+    void recordFalsePositive(IndexedField field);
+
+    void add(UserModel userModel);
+
+    void rebuild();
+}
@@ -0,0 +1,21 @@
+package com.ead.authuser.services;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ead.authuser.dtos.UserPurgeJobDTO;
+import com.ead.authuser.models.UserModel;
+
+public interface UserPurgeService {
+
+    /**
+     * Queues the deletion of every user matching the specification.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException when too many purges are queued
+     */
+    UserPurgeJobDTO startPurge(Specification<UserModel> spec);
+
+    Optional<UserPurgeJobDTO> findJob(UUID jobId);
+}
@@ -1,14 +1,23 @@
 package com.ead.authuser.services;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
+import com.ead.authuser.dtos.UserSuggestionDTO;
+import com.ead.authuser.dtos.UserSummaryDTO;
+import com.ead.authuser.dtos.UserVersionDTO;
+import com.ead.authuser.enums.UpdateResult;
 import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.projections.UserCredentialsView;
 
 public interface UserService {
 
@@ -16,7 +25,13 @@ public interface UserService {
 
     Optional<UserModel> findById(UUID userId);
 
-    void delete(UserModel userModel);
+    Optional<UserVersionDTO> findVersionById(UUID userId);
+
+    List<UserModel> findAllById(Collection<UUID> userIds);
+
+    boolean deleteById(UUID userId);
+
+    int deleteAllById(Collection<UUID> userIds);
 
     void save(UserModel userModel);
 
@@ -24,5 +39,27 @@ public interface UserService {
 
     boolean existsByEmail(String email);
 
+    boolean existsByUsernameOnPrimary(String username);
+
+    boolean existsByEmailOnPrimary(String email);
+
+    Set<String> findExistingUsernames(Collection<String> usernames);
+
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    void saveAll(List<UserModel> userModels);
+
     Page<UserModel> findAll(Specification<UserModel> spec, Pageable pageable);
+
+    Page<UserSummaryDTO> findAllSummaries(Specification<UserModel> spec, Pageable pageable);
+
+    Slice<UserModel> findAllAfter(Specification<UserModel> spec, UUID after, int size);
+
+    Optional<UserCredentialsView> findCredentialsById(UUID userId);
+
+    UpdateResult update(UUID userId, Long expectedVersion, Map<String, Object> changes);
+
+    List<UserModel> search(String text, int limit);
+
+    List<UserSuggestionDTO> autocomplete(String prefix, int limit);
 }
@@ -0,0 +1,28 @@
+package com.ead.authuser.services;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.ead.authuser.dtos.CourseStatisticsDTO;
+import com.ead.authuser.dtos.UserStatisticsDTO;
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+
+/**
+ * Counts kept in memory and adjusted as users and enrollments change, reset from the database
+ * periodically. They only see this instance's writes in between, so with several instances they
+ * are exact as of the last reconciliation and approximate after it.
+ */
+public interface UserStatisticsService {
+
+    /** Empty until the first reconciliation has finished. */
+    Optional<UserStatisticsDTO> getStatistics();
+
+    Optional<CourseStatisticsDTO> getCourseStatistics(UUID courseId);
+
+    /** Applied once the current transaction commits, immediately if there is none. */
+    void recordUsers(UserType userType, UserStatus userStatus, long delta);
+
+    /** Applied once the current transaction commits, immediately if there is none. */
+    void recordEnrollments(UUID courseId, long delta);
+}
@@ -0,0 +1,150 @@
+package com.ead.authuser.services.impl;
+
+import java.beans.PropertyDescriptor;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.ead.authuser.audit.AuditEvent;
+import com.ead.authuser.enums.AuditEventType;
+import com.ead.authuser.services.AuditService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+public class AuditServiceImpl implements AuditService {
+
+    private static final Logger AUDIT_LOG = LogManager.getLogger("audit");
+    private static final String REDACTED = "***";
+
+    private final BlockingQueue<AuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Set<String> redactedFields;
+    private final ObjectMapper objectMapper;
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private Thread writer;
+    private volatile boolean running;
+
+    public AuditServiceImpl(
+            @Value("${ead.audit.buffer-size:8192}") int bufferSize,
+            @Value("${ead.audit.batch-size:256}") int batchSize,
+            @Value("${ead.audit.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${ead.audit.redacted-fields:password,oldPassword}") Set<String> redactedFields,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.redactedFields = redactedFields;
+        this.objectMapper = objectMapper;
+        this.publishedCounter = meterRegistry.counter("authuser.audit.events", "result", "written");
+        this.droppedCounter = meterRegistry.counter("authuser.audit.events", "result", "dropped");
+        meterRegistry.gauge("authuser.audit.buffer.size", buffer, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Override
+    public void publish(AuditEventType type, UUID userId, Object payload) {
+        if(!buffer.offer(new AuditEvent(type, userId, payload, Instant.now()))) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEvent first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if(first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // Shutdown: fall through and drain whatever is left
+            } catch (RuntimeException e) {
+                log.error("Audit batch of {} events could not be written", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        for (AuditEvent event : batch) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("timestamp", event.getTimestamp().toString());
+            record.put("type", event.getType());
+            record.put("userId", event.getUserId());
+            if(event.getPayload() != null) {
+                record.put("data", redact(event.getPayload()));
+            }
+            try {
+                AUDIT_LOG.info(objectMapper.writeValueAsString(record));
+            } catch (JsonProcessingException e) {
+                log.error("Audit event {} for user {} could not be serialized", event.getType(), event.getUserId(), e);
+            }
+        }
+        publishedCounter.increment(batch.size());
+    }
+
+    private Map<String, Object> redact(Object payload) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        if(payload instanceof Map) {
+            ((Map<?, ?>) payload).forEach((key, value) ->
+                    attributes.put(String.valueOf(key), redactedFields.contains(String.valueOf(key)) ? REDACTED : value));
+            return attributes;
+        }
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(payload);
+        for (PropertyDescriptor property : wrapper.getPropertyDescriptors()) {
+            String name = property.getName();
+            if("class".equals(name) || property.getReadMethod() == null) {
+                continue;
+            }
+            Object value = wrapper.getPropertyValue(name);
+            if(value != null) {
+                attributes.put(name, redactedFields.contains(name) ? REDACTED : value);
+            }
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,215 @@
+package com.ead.authuser.services.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.authuser.enums.UserEventType;
+import com.ead.authuser.models.OutboxEventModel;
+import com.ead.authuser.outbox.OutboxTransport;
+import com.ead.authuser.repositories.OutboxEventRepository;
+import com.ead.authuser.services.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    // countPending stops here, a backlog this large only needs to read as "very large"
+    private static final int BACKLOG_COUNT_LIMIT = 100_000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long maxBackoffMillis;
+    private final long backlogIntervalMillis;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSummary;
+    private final Timer publishLagTimer;
+    private Thread relay;
+    private volatile boolean running;
+    private long nextBacklogUpdate;
+
+    public OutboxServiceImpl(
+            @Value("${ead.outbox.batch-size:200}") int batchSize,
+            @Value("${ead.outbox.poll-interval-ms:500}") long pollIntervalMillis,
+            @Value("${ead.outbox.max-backoff-ms:30000}") long maxBackoffMillis,
+            @Value("${ead.outbox.backlog-interval-ms:30000}") long backlogIntervalMillis,
+            @Value("${ead.outbox.transport:none}") String transportName,
+            OutboxEventRepository outboxEventRepository,
+            ObjectProvider<OutboxTransport> transports,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transport = transports.getIfAvailable();
+        if(transport == null && !"none".equals(transportName)) {
+            // A typo or a profile-only transport must not silently turn into "none"
+            throw new IllegalStateException("Unknown outbox transport '" + transportName + "': use none or file"
+                    + " (memory is only available in the test, local and benchmark profiles)");
+        }
+        if(transport == null) {
+            log.warn("[outbox] No transport configured (ead.outbox.transport=none): user events are kept in tb_user_outbox"
+                    + " until one is");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.backlogIntervalMillis = backlogIntervalMillis;
+        this.publishedCounter = meterRegistry.counter("authuser.outbox.events", "result", "published");
+        this.failedCounter = meterRegistry.counter("authuser.outbox.events", "result", "failed");
+        this.batchSummary = DistributionSummary.builder("authuser.outbox.batch.size").register(meterRegistry);
+        this.publishLagTimer = Timer.builder("authuser.outbox.publish.lag")
+                .description("Time from the event's transaction to its publication")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("authuser.outbox.backlog", backlog);
+        meterRegistry.more().timeGauge("authuser.outbox.lag", List.of(), lagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        relay = new Thread(this::relayLoop, "outbox-relay");
+        relay.setDaemon(true);
+        relay.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Not interrupted: a batch in flight finishes (or rolls back) on its own
+        running = false;
+        wakeUp.release();
+        relay.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(UserEventType type, UUID userId, Object payload) {
+        var event = new OutboxEventModel();
+        event.setUserId(userId);
+        event.setEventType(type);
+        event.setCreatedAt(Instant.now());
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload for user " + userId + " could not be serialized", e);
+        }
+        outboxEventRepository.save(event);
+        // Lets the relay pick the event up right after commit instead of at its next poll
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp.release();
+            }
+        });
+    }
+
+    /*
+     * The backlog gauge costs two queries, so it is refreshed after a poll that found events and
+     * otherwise only every backlog-interval-ms, not on every idle poll. Without a transport the
+     * loop does nothing else.
+     */
+    private void relayLoop() {
+        long backoffMillis = 0;
+        while (running) {
+            try {
+                Integer published = transport == null ? Integer.valueOf(0) : transactionTemplate.execute(status -> publishBatch());
+                backoffMillis = 0;
+                if(published == null || published < batchSize) {
+                    updateBacklog(published != null && published > 0);
+                    wakeUp.tryAcquire(transport == null ? backlogIntervalMillis : pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // The batch stays in the table; back off so a broken transport isn't hammered
+                backoffMillis = Math.min(Math.max(backoffMillis * 2, pollIntervalMillis), maxBackoffMillis);
+                log.warn("[outbox] Batch could not be published, retrying in {} ms: {}", backoffMillis, e.getMessage());
+                try {
+                    updateBacklog(false);
+                    wakeUp.tryAcquire(backoffMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException ignored) {
+                    // Metrics only; the database may be what is failing
+                }
+            }
+        }
+    }
+
+    /*
+     * The rows stay locked while the transport sends them and are deleted in the same transaction,
+     * so a crash between the two re-sends the batch instead of losing it.
+     */
+    private int publishBatch() {
+        List<OutboxEventModel> batch = outboxEventRepository.findNextBatch(PageRequest.of(0, batchSize));
+        if(batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            transport.send(batch);
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            throw e;
+        }
+        outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEventModel::getEventId).collect(Collectors.toList()));
+
+        Instant now = Instant.now();
+        for (OutboxEventModel event : batch) {
+            publishLagTimer.record(Duration.between(event.getCreatedAt(), now));
+        }
+        publishedCounter.increment(batch.size());
+        batchSummary.record(batch.size());
+        return batch.size();
+    }
+
+    private void updateBacklog(boolean force) {
+        long now = System.currentTimeMillis();
+        if(!force && now < nextBacklogUpdate) {
+            return;
+        }
+        nextBacklogUpdate = now + backlogIntervalMillis;
+        backlog.set(outboxEventRepository.countPending(BACKLOG_COUNT_LIMIT));
+        List<Instant> oldest = outboxEventRepository.findOldestCreatedAt(PageRequest.of(0, 1));
+        lagMillis.set(oldest.isEmpty() ? 0 : Math.max(0, Duration.between(oldest.get(0), Instant.now()).toMillis()));
+    }
+}
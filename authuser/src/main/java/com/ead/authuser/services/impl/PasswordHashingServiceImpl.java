@@ -0,0 +1,135 @@
+package com.ead.authuser.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.ead.authuser.services.PasswordHashingService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private static final String BCRYPT_PREFIX = "$2";
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingServiceImpl(
+            @Value("${ead.password.bcrypt-strength:10}") int strength,
+            @Value("${ead.password.hashing.threads:0}") int threads,
+            @Value("${ead.password.hashing.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = meterRegistry.timer("authuser.password.hashing", "operation", "hash");
+        this.verifyTimer = meterRegistry.timer("authuser.password.hashing", "operation", "verify");
+        meterRegistry.gauge("authuser.password.hashing.queue.size", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge("authuser.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+        this.rejectedCounter = meterRegistry.counter("authuser.password.hashing.rejected");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return await(submit(() -> hashTimer.record(() -> encoder.encode(rawPassword))));
+    }
+
+    /*
+     * Splits the batch into one task per hashing thread, so a bulk import occupies the pool
+     * without flooding its admission queue.
+     */
+    @Override
+    public List<String> hashAll(List<String> rawPasswords) {
+        int slices = Math.min(executor.getMaximumPoolSize(), Math.max(1, rawPasswords.size()));
+        int sliceSize = (rawPasswords.size() + slices - 1) / slices;
+        List<Future<List<String>>> futures = new ArrayList<>(slices);
+        for (int start = 0; start < rawPasswords.size(); start += sliceSize) {
+            List<String> slice = rawPasswords.subList(start, Math.min(start + sliceSize, rawPasswords.size()));
+            futures.add(submit(() -> {
+                List<String> hashes = new ArrayList<>(slice.size());
+                for (String rawPassword : slice) {
+                    hashes.add(hashTimer.record(() -> encoder.encode(rawPassword)));
+                }
+                return hashes;
+            }));
+        }
+
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        for (Future<List<String>> future : futures) {
+            hashes.addAll(await(future));
+        }
+        return hashes;
+    }
+
+    @Override
+    public boolean verify(String rawPassword, String storedPassword) {
+        if(rawPassword == null || storedPassword == null) {
+            return false;
+        }
+        if(!storedPassword.startsWith(BCRYPT_PREFIX)) {
+            // Rows written before hashing was introduced hold the plain password
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return await(submit(() -> verifyTimer.record(() -> encoder.matches(rawPassword, storedPassword))));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing pool saturated ({} queued), rejecting request", executor.getQueue().size());
+            throw e;
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -2,12 +2,79 @@ package com.ead.authuser.services.impl;
 
 import com.ead.authuser.repositories.UserCourseRepository;
 import com.ead.authuser.services.UserCourseService;
+import com.ead.authuser.services.UserStatisticsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 @Service
 public class UserCourseServiceImpl implements UserCourseService {
 
     @Autowired
     UserCourseRepository userCourseRepository;
+
+    @Autowired
+    UserStatisticsService userStatisticsService;
+
+    // Bounds the array / IN list sent per statement
+    @Value("${ead.enrollment.chunk-size:5000}")
+    int chunkSize;
+
+    @Override
+    @Transactional
+    public int enroll(UUID courseId, Collection<UUID> userIds) {
+        int enrolled = 0;
+        for (List<UUID> chunk : chunks(userIds)) {
+            enrolled += userCourseRepository.enroll(courseId, chunk);
+        }
+        userStatisticsService.recordEnrollments(courseId, enrolled);
+        return enrolled;
+    }
+
+    @Override
+    @Transactional
+    public int unenroll(UUID courseId, Collection<UUID> userIds) {
+        int unenrolled = 0;
+        for (List<UUID> chunk : chunks(userIds)) {
+            unenrolled += userCourseRepository.deleteByCourseIdAndUserIds(courseId, chunk);
+        }
+        userStatisticsService.recordEnrollments(courseId, -unenrolled);
+        return unenrolled;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEnrolled(UUID courseId, UUID userId) {
+        return userCourseRepository.existsByCourseIdAndUserUserId(courseId, userId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByCourse(UUID courseId) {
+        int deleted = userCourseRepository.deleteAllByCourseId(courseId);
+        userStatisticsService.recordEnrollments(courseId, -deleted);
+        return deleted;
+    }
+
+    private List<List<UUID>> chunks(Collection<UUID> userIds) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        List<UUID> chunk = new ArrayList<>(Math.min(chunkSize, userIds.size()));
+        for (UUID userId : userIds) {
+            chunk.add(userId);
+            if(chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if(!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
 }
@@ -0,0 +1,110 @@
+package com.ead.authuser.services.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.UserRepository;
+import com.ead.authuser.services.UserExportService;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+    private static final String CSV_HEADER = "userId,username,email,fullName,userStatus,userType,phoneNumber,cpf,imageUrl,creationDate,lastUpdateDate";
+
+    @Autowired
+    UserRepository userRepository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Value("${ead.export.fetch-size:1000}")
+    int fetchSize;
+
+    private final ObjectWriter userWriter;
+
+    public UserExportServiceImpl(ObjectMapper objectMapper) {
+        this.userWriter = objectMapper.copy()
+                .addMixIn(RepresentationModel.class, IgnoreLinks.class)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writerFor(UserModel.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(Specification<UserModel> spec, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if(format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<UserModel> users = userRepository.stream(spec, Sort.by(Sort.Direction.ASC, "userId"), fetchSize)) {
+            Iterator<UserModel> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                UserModel userModel = iterator.next();
+                if(format == Format.CSV) {
+                    writeCsv(writer, userModel);
+                } else {
+                    userWriter.writeValue(writer, userModel);
+                }
+                writer.write('\n');
+                // Keep the persistence context empty so memory stays flat however many rows we stream
+                entityManager.detach(userModel);
+                count++;
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsv(Writer writer, UserModel userModel) throws IOException {
+        Object[] values = {
+            userModel.getUserId(), userModel.getUsername(), userModel.getEmail(), userModel.getFullName(),
+            userModel.getUserStatus(), userModel.getUserType(), userModel.getPhoneNumber(), userModel.getCpf(),
+            userModel.getImageUrl(), userModel.getCreationDate(), userModel.getLastUpdateDate()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if(i > 0) {
+                writer.write(',');
+            }
+            if(values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @JsonIgnoreProperties("links")
+    private abstract static class IgnoreLinks {}
+}
@@ -0,0 +1,184 @@
+package com.ead.authuser.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.ead.authuser.dtos.UserDTO;
+import com.ead.authuser.dtos.UserImportReportDTO;
+import com.ead.authuser.dtos.UserImportResultDTO;
+import com.ead.authuser.dtos.UserImportResultDTO.Status;
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+import com.ead.authuser.models.UserModel;
+import com.ead.authuser.services.PasswordHashingService;
+import com.ead.authuser.services.UserImportService;
+import com.ead.authuser.services.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    Validator validator;
+
+    @Autowired
+    PasswordHashingService passwordHashingService;
+
+    @Value("${ead.import.chunk-size:1000}")
+    int chunkSize;
+
+    private final ObjectReader userReader;
+
+    public UserImportServiceImpl(ObjectMapper objectMapper) {
+        this.userReader = objectMapper.readerWithView(UserDTO.UserView.RegistrationPost.class).forType(UserDTO.class);
+    }
+
+    @Override
+    public UserImportReportDTO importUsers(InputStream ndjson) throws IOException {
+        var report = new UserImportReportDTO();
+        List<PendingUser> chunk = new ArrayList<>(chunkSize);
+
+        try (var reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if(line.isBlank()) {
+                    continue;
+                }
+
+                UserDTO userDTO;
+                try {
+                    userDTO = userReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    report.add(new UserImportResultDTO(lineNumber, Status.INVALID, null, "Malformed JSON"));
+                    continue;
+                }
+                if(userDTO == null) {
+                    // A literal null line
+                    report.add(new UserImportResultDTO(lineNumber, Status.INVALID, null, "Expected a JSON object"));
+                    continue;
+                }
+
+                Set<ConstraintViolation<UserDTO>> violations = validator.validate(userDTO, UserDTO.UserView.RegistrationPost.class);
+                if(!violations.isEmpty()) {
+                    String message = violations.stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining(", "));
+                    report.add(new UserImportResultDTO(lineNumber, Status.INVALID, null, message));
+                    continue;
+                }
+
+                chunk.add(new PendingUser(lineNumber, userDTO));
+                if(chunk.size() == chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if(!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+
+        return report;
+    }
+
+    private void importChunk(List<PendingUser> chunk, UserImportReportDTO report) {
+        // Taken sets also absorb earlier rows of the same chunk, so in-file duplicates are reported too
+        Set<String> takenUsernames = new HashSet<>(userService.findExistingUsernames(
+                chunk.stream().map(pending -> pending.userDTO.getUsername()).collect(Collectors.toSet())));
+        Set<String> takenEmails = new HashSet<>(userService.findExistingEmails(
+                chunk.stream().map(pending -> pending.userDTO.getEmail()).collect(Collectors.toSet())));
+
+        List<PendingUser> accepted = new ArrayList<>(chunk.size());
+        List<UserModel> userModels = new ArrayList<>(chunk.size());
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+        for (PendingUser pending : chunk) {
+            UserDTO userDTO = pending.userDTO;
+            if(!takenUsernames.add(userDTO.getUsername())) {
+                report.add(new UserImportResultDTO(pending.line, Status.DUPLICATE, null, "Username already taken!"));
+                continue;
+            }
+            if(!takenEmails.add(userDTO.getEmail())) {
+                report.add(new UserImportResultDTO(pending.line, Status.DUPLICATE, null, "Email already taken!"));
+                continue;
+            }
+
+            var userModel = new UserModel();
+            BeanUtils.copyProperties(userDTO, userModel);
+            userModel.setUserStatus(UserStatus.ACTIVE);
+            userModel.setUserType(UserType.STUDENT);
+            userModel.setCreationDate(now);
+            userModel.setLastUpdateDate(now);
+            accepted.add(pending);
+            userModels.add(userModel);
+        }
+        if(userModels.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> hashes = passwordHashingService.hashAll(
+                    accepted.stream().map(pending -> pending.userDTO.getPassword()).collect(Collectors.toList()));
+            for (int i = 0; i < userModels.size(); i++) {
+                userModels.get(i).setPassword(hashes.get(i));
+            }
+        } catch (RejectedExecutionException e) {
+            accepted.forEach(pending -> report.add(
+                    new UserImportResultDTO(pending.line, Status.FAILED, null, "Password hashing busy, retry these rows")));
+            return;
+        }
+
+        try {
+            userService.saveAll(userModels);
+        } catch (DataAccessException e) {
+            // A concurrent signup took one of the names between the check and the insert
+            log.warn("[importUsers] Chunk of {} users failed: {}", userModels.size(), e.getMostSpecificCause().getMessage());
+            accepted.forEach(pending -> report.add(
+                    new UserImportResultDTO(pending.line, Status.FAILED, null, "Chunk rejected by the database, retry these rows")));
+            return;
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            report.add(new UserImportResultDTO(accepted.get(i).line, Status.IMPORTED, userModels.get(i).getUserId(), null));
+        }
+    }
+
+    private static class PendingUser {
+        private final long line;
+        private final UserDTO userDTO;
+
+        private PendingUser(long line, UserDTO userDTO) {
+            this.line = line;
+            this.userDTO = userDTO;
+        }
+    }
+}
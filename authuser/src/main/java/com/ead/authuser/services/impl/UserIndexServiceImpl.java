@@ -0,0 +1,157 @@
+package com.ead.authuser.services.impl;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.UserRepository;
+import com.ead.authuser.repositories.projections.UserIdentityView;
+import com.ead.authuser.services.UserIndexService;
+import com.ead.authuser.utils.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+public class UserIndexServiceImpl implements UserIndexService {
+
+    @Autowired
+    UserRepository userRepository;
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<IndexedField, Counter> positiveCounters = new EnumMap<>(IndexedField.class);
+    private final Map<IndexedField, Counter> negativeCounters = new EnumMap<>(IndexedField.class);
+    private final Map<IndexedField, Counter> falsePositiveCounters = new EnumMap<>(IndexedField.class);
+
+    // Swapped as a whole on rebuild; null until the first warm-up finishes, meaning "always ask the database"
+    private volatile Map<IndexedField, BloomFilter> filters;
+    // Filter being rebuilt, so signups that land while the table is streamed aren't lost on swap
+    private volatile Map<IndexedField, BloomFilter> building;
+
+    public UserIndexServiceImpl(
+            @Value("${ead.signup.index.expected-insertions:5000000}") long expectedInsertions,
+            @Value("${ead.signup.index.false-positive-probability:0.01}") double falsePositiveProbability,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        for (IndexedField field : IndexedField.values()) {
+            String tag = field.name().toLowerCase();
+            positiveCounters.put(field, meterRegistry.counter("authuser.signup.index.lookups", "field", tag, "result", "maybe"));
+            negativeCounters.put(field, meterRegistry.counter("authuser.signup.index.lookups", "field", tag, "result", "absent"));
+            falsePositiveCounters.put(field, meterRegistry.counter("authuser.signup.index.false.positives", "field", tag));
+            Gauge.builder("authuser.signup.index.false.positive.rate", this, index -> index.falsePositiveRate(field))
+                    .tag("field", tag)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("authuser.signup.index.memory", this, UserIndexServiceImpl::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /*
+     * Off the main thread: ApplicationReadyEvent listeners run before the readiness state flips to
+     * ACCEPTING_TRAFFIC, so streaming the whole table here held every new pod out of rotation.
+     * Until the filters exist, mightContain answers "maybe" and signups ask the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread warmUp = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Signup uniqueness index could not be built, signups will query the database", e);
+            }
+        }, "signup-index-warmup");
+        warmUp.setDaemon(true);
+        warmUp.start();
+    }
+
+    @Override
+    public boolean mightContain(IndexedField field, String value) {
+        Map<IndexedField, BloomFilter> current = filters;
+        boolean maybe = current == null || value == null || current.get(field).mightContain(value);
+        (maybe ? positiveCounters : negativeCounters).get(field).increment();
+        return maybe;
+    }
+
+    @Override
+    public void recordFalsePositive(IndexedField field) {
+        falsePositiveCounters.get(field).increment();
+    }
+
+    /*
+     * Deleted users are not removed: a Bloom filter can't unset bits, so a freed username just
+     * answers "maybe" and falls through to the database until the next rebuild.
+     */
+    @Override
+    public void add(UserModel userModel) {
+        Map<IndexedField, BloomFilter> current = filters;
+        if(current != null) {
+            put(current, userModel.getUsername(), userModel.getEmail());
+        }
+        Map<IndexedField, BloomFilter> next = building;
+        if(next != null) {
+            put(next, userModel.getUsername(), userModel.getEmail());
+        }
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<IndexedField, BloomFilter> rebuilt = new EnumMap<>(IndexedField.class);
+        for (IndexedField field : IndexedField.values()) {
+            rebuilt.put(field, new BloomFilter(expectedInsertions, falsePositiveProbability));
+        }
+        building = rebuilt;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserIdentityView> identities = userRepository.streamAllIdentities()) {
+                    identities.forEach(identity -> put(rebuilt, identity.getUsername(), identity.getEmail()));
+                }
+            });
+            filters = rebuilt;
+        } finally {
+            building = null;
+        }
+        log.info("Signup uniqueness index rebuilt in {} ms ({} bytes)", System.currentTimeMillis() - start, memoryBytes());
+    }
+
+    private static void put(Map<IndexedField, BloomFilter> target, String username, String email) {
+        if(username != null) {
+            target.get(IndexedField.USERNAME).put(username);
+        }
+        if(email != null) {
+            target.get(IndexedField.EMAIL).put(email);
+        }
+    }
+
+    // Share of values that were not taken but still answered "maybe"
+    private double falsePositiveRate(IndexedField field) {
+        double falsePositives = falsePositiveCounters.get(field).count();
+        double absent = falsePositives + negativeCounters.get(field).count();
+        return absent == 0 ? 0 : falsePositives / absent;
+    }
+
+    private double memoryBytes() {
+        Map<IndexedField, BloomFilter> current = filters;
+        return current == null ? 0 : current.values().stream().mapToLong(BloomFilter::getMemoryBytes).sum();
+    }
+}
@@ -0,0 +1,142 @@
+package com.ead.authuser.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.authuser.dtos.UserPurgeJobDTO;
+import com.ead.authuser.enums.AuditEventType;
+import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.UserRepository;
+import com.ead.authuser.services.AuditService;
+import com.ead.authuser.services.UserPurgeService;
+import com.ead.authuser.services.UserService;
+import com.ead.authuser.specifications.SpecificationTemplate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Deletes matching users in keyset-ordered chunks, each chunk in its own short transaction, on a
+ * single background thread. Jobs are kept in memory for a day so their progress can be polled.
+ */
+@Log4j2
+@Service
+public class UserPurgeServiceImpl implements UserPurgeService {
+
+    private static final Sort BY_USER_ID = Sort.by(Sort.Direction.ASC, "userId");
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    AuditService auditService;
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<UUID, UserPurgeJobDTO> jobs;
+    private final Counter purgedCounter;
+    private final int chunkSize;
+
+    public UserPurgeServiceImpl(
+            @Value("${ead.purge.chunk-size:1000}") int chunkSize,
+            @Value("${ead.purge.queue-capacity:4}") int queueCapacity,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.chunkSize = chunkSize;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-purge");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobs = Caffeine.newBuilder().expireAfterWrite(Duration.ofDays(1)).build();
+        this.purgedCounter = meterRegistry.counter("authuser.users.purged");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public UserPurgeJobDTO startPurge(Specification<UserModel> spec) {
+        var job = new UserPurgeJobDTO(UUID.randomUUID());
+        jobs.put(job.getJobId(), job);
+        try {
+            executor.execute(() -> purge(job, spec));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getJobId());
+            throw e;
+        }
+        return job;
+    }
+
+    @Override
+    public Optional<UserPurgeJobDTO> findJob(UUID jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    private void purge(UserPurgeJobDTO job, Specification<UserModel> spec) {
+        job.setStartedAt(LocalDateTime.now(ZoneId.of("UTC")));
+        job.setStatus(UserPurgeJobDTO.Status.RUNNING);
+        try {
+            job.setMatched(userRepository.count(spec));
+            UUID after = null;
+            List<UUID> chunk;
+            do {
+                Specification<UserModel> chunkSpec = after == null ? Specification.where(spec) :
+                        Specification.where(spec).and(SpecificationTemplate.userIdAfter(after));
+                // Not read-only, so ids come from the primary that the deletes run on
+                chunk = transactionTemplate.execute(status -> {
+                    List<UUID> userIds = userRepository.findIds(chunkSpec, BY_USER_ID, chunkSize);
+                    job.setDeleted(job.getDeleted() + userService.deleteAllById(userIds));
+                    return userIds;
+                });
+                purgedCounter.increment(chunk.size());
+                if(!chunk.isEmpty()) {
+                    after = chunk.get(chunk.size() - 1);
+                }
+                log.debug("[purge] Job {}: {} of {} users deleted", job.getJobId(), job.getDeleted(), job.getMatched());
+            } while (chunk.size() == chunkSize && !Thread.currentThread().isInterrupted());
+
+            job.setStatus(UserPurgeJobDTO.Status.COMPLETED);
+            log.info("[purge] Job {} completed. {} users deleted", job.getJobId(), job.getDeleted());
+        } catch (RuntimeException e) {
+            job.setStatus(UserPurgeJobDTO.Status.FAILED);
+            job.setError(e.getMessage());
+            log.error("[purge] Job {} failed after deleting {} users", job.getJobId(), job.getDeleted(), e);
+        } finally {
+            job.setFinishedAt(LocalDateTime.now(ZoneId.of("UTC")));
+            auditService.publish(AuditEventType.USERS_PURGED, null,
+                    Map.of("jobId", job.getJobId(), "status", job.getStatus(), "deleted", job.getDeleted()));
+        }
+    }
+}
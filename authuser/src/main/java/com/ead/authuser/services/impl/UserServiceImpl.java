@@ -1,18 +1,65 @@
 package com.ead.authuser.services.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.ead.authuser.configs.CacheConfig;
+import com.ead.authuser.datasource.ReadYourWritesTracker;
+import com.ead.authuser.datasource.ReplicaRoutingDataSource;
+import com.ead.authuser.dtos.UserEventDTO;
+import com.ead.authuser.dtos.UserSnapshotDTO;
+import com.ead.authuser.dtos.UserSuggestionDTO;
+import com.ead.authuser.dtos.UserSummaryDTO;
+import com.ead.authuser.dtos.UserVersionDTO;
+import com.ead.authuser.enums.UpdateResult;
+import com.ead.authuser.enums.UserEventType;
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
 import com.ead.authuser.models.UserModel;
+import com.ead.authuser.repositories.UserCourseRepository;
 import com.ead.authuser.repositories.UserRepository;
+import com.ead.authuser.repositories.projections.CourseUserCountView;
+import com.ead.authuser.repositories.projections.UserCredentialsView;
+import com.ead.authuser.repositories.projections.UserTypeStatusView;
+import com.ead.authuser.services.UserIndexService;
+import com.ead.authuser.services.UserIndexService.IndexedField;
+import com.ead.authuser.services.OutboxService;
 import com.ead.authuser.services.UserService;
+import com.ead.authuser.services.UserStatisticsService;
+import com.ead.authuser.specifications.SpecificationTemplate;
+import com.ead.authuser.utils.SingleFlight;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
 public class UserServiceImpl implements UserService {
@@ -20,38 +67,382 @@ public class UserServiceImpl implements UserService {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    UserIndexService userIndexService;
+
+    @Autowired
+    UserCourseRepository userCourseRepository;
+
+    @Autowired
+    ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    OutboxService outboxService;
+
+    @Autowired
+    UserStatisticsService userStatisticsService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${ead.users.batch.chunk-size:500}")
+    int batchChunkSize;
+
+    private final SingleFlight<UUID, Optional<UserSnapshotDTO>> userLookups = new SingleFlight<>();
+    private DistributionSummary batchSizeSummary;
+    private DistributionSummary batchLoadedSummary;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        batchSizeSummary = DistributionSummary.builder("authuser.users.batch.size")
+                .description("User ids requested per batch lookup")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        batchLoadedSummary = DistributionSummary.builder("authuser.users.batch.loaded")
+                .description("User ids per batch lookup that missed the cache and went to the database")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("authuser.users.batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        FunctionCounter.builder("authuser.users.lookups.coalesced", userLookups, SingleFlight::coalesced)
+                .description("findById calls that waited on an identical in-flight query")
+                .register(meterRegistry);
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public List<UserModel> findAll() {
         return userRepository.findAll();
     }
 
+    /*
+     * The cache holds immutable snapshots and every caller gets a UserModel of its own, so nothing a
+     * caller does to the result reaches the cache or another request. Concurrent misses for the same
+     * id share one query. No transaction here: the repository call opens its own read-only one, so
+     * callers waiting on another thread's query don't hold a connection. A recently written id skips
+     * coalescing, since the in-flight read may predate the write.
+     */
     @Override
     public Optional<UserModel> findById(UUID userId) {
-        return userRepository.findById(userId);
+        Cache usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        UserSnapshotDTO snapshot = usersCache != null ? usersCache.get(userId, UserSnapshotDTO.class) : null;
+        if(snapshot == null) {
+            // A replica may not have replayed this instance's own recent write yet
+            Optional<UserSnapshotDTO> loaded = readYourWritesTracker.isRecentlyWritten(userId) ?
+                    ReplicaRoutingDataSource.onPrimary(() -> userRepository.findById(userId).map(UserServiceImpl::toSnapshot)) :
+                    userLookups.execute(userId, () -> userRepository.findById(userId).map(UserServiceImpl::toSnapshot));
+            if(loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            snapshot = loaded.get();
+            if(usersCache != null) {
+                usersCache.put(userId, snapshot);
+            }
+        }
+        return Optional.of(toModel(snapshot));
+    }
+
+    /*
+     * Answers from the users cache when the entity is there, otherwise selects just the two
+     * columns, so a conditional GET that ends in 304 never loads the full row.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserVersionDTO> findVersionById(UUID userId) {
+        Cache usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        UserSnapshotDTO cached = usersCache != null ? usersCache.get(userId, UserSnapshotDTO.class) : null;
+        if(cached != null) {
+            return Optional.of(new UserVersionDTO(cached.getVersion(), cached.getLastUpdateDate()));
+        }
+        if(readYourWritesTracker.isRecentlyWritten(userId)) {
+            return ReplicaRoutingDataSource.onPrimary(() -> userRepository.findVersionById(userId));
+        }
+        return userRepository.findVersionById(userId);
+    }
+
+    /*
+     * Cache first, then one IN query per chunk for the misses, which are cached the same way
+     * findById would. Each chunk runs in its own read-only transaction so a chunk holding a
+     * recently written id can be sent to the primary.
+     */
+    @Override
+    public List<UserModel> findAllById(Collection<UUID> userIds) {
+        long start = System.nanoTime();
+        Cache usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        List<UserModel> users = new ArrayList<>(userIds.size());
+        List<UUID> misses = new ArrayList<>();
+        for (UUID userId : userIds) {
+            UserSnapshotDTO cached = usersCache != null ? usersCache.get(userId, UserSnapshotDTO.class) : null;
+            if(cached != null) {
+                users.add(toModel(cached));
+            } else {
+                misses.add(userId);
+            }
+        }
+        for (int from = 0; from < misses.size(); from += batchChunkSize) {
+            List<UUID> chunk = misses.subList(from, Math.min(from + batchChunkSize, misses.size()));
+            List<UserModel> loaded = chunk.stream().anyMatch(readYourWritesTracker::isRecentlyWritten) ?
+                    ReplicaRoutingDataSource.onPrimary(() -> userRepository.findAllById(chunk)) :
+                    userRepository.findAllById(chunk);
+            for (UserModel userModel : loaded) {
+                UserSnapshotDTO snapshot = toSnapshot(userModel);
+                if(usersCache != null) {
+                    usersCache.putIfAbsent(userModel.getUserId(), snapshot);
+                }
+                users.add(toModel(snapshot));
+            }
+        }
+        batchSizeSummary.record(userIds.size());
+        batchLoadedSummary.record(misses.size());
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return users;
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteById(UUID userId) {
+        return deleteAllById(List.of(userId)) > 0;
     }
 
+    /*
+     * Two bulk statements, enrollments first for the FK, instead of loading each user and its
+     * usersCourses collection.
+     */
     @Override
-    public void delete(UserModel userModel) {
-        userRepository.delete(userModel);
+    @Transactional
+    public int deleteAllById(Collection<UUID> userIds) {
+        if(userIds.isEmpty()) {
+            return 0;
+        }
+        // Only users that exist get a USER_DELETED event; their type, status and courses feed the statistics
+        List<UserTypeStatusView> existing = userRepository.findTypeStatusByIds(userIds);
+        int deleted = 0;
+        if(!existing.isEmpty()) {
+            List<UUID> existingIds = existing.stream().map(UserTypeStatusView::getUserId).collect(Collectors.toList());
+            List<CourseUserCountView> enrollments = userCourseRepository.countByCourseForUsers(existingIds);
+            userCourseRepository.deleteAllByUserIds(existingIds);
+            deleted = userRepository.deleteAllByUserIds(existingIds);
+            for (UserTypeStatusView user : existing) {
+                outboxService.append(UserEventType.USER_DELETED, user.getUserId(), Map.of("userId", user.getUserId()));
+                userStatisticsService.recordUsers(user.getUserType(), user.getUserStatus(), -1);
+            }
+            enrollments.forEach(enrollment -> userStatisticsService.recordEnrollments(enrollment.getCourseId(), -enrollment.getTotal()));
+        }
+        evictAfterCommit(userIds);
+        return deleted;
     }
 
     @Override
+    @Transactional
     public void save(UserModel userModel) {
+        // Spring Data treats a null version as a new entity, so this is also what save will do
+        UserEventType eventType = userModel.getVersion() == null ? UserEventType.USER_CREATED : UserEventType.USER_UPDATED;
+        Optional<UserTypeStatusView> previous = eventType == UserEventType.USER_CREATED ?
+                Optional.empty() : userRepository.lockTypeStatusById(userModel.getUserId());
         userRepository.save(userModel);
+        outboxService.append(eventType, userModel.getUserId(), toEvent(userModel));
+        if(previous.isPresent()) {
+            recordTypeStatusChange(previous.get(), userModel.getUserType(), userModel.getUserStatus());
+        } else {
+            // New, or gone since it was loaded, in which case save inserts it again
+            userStatisticsService.recordUsers(userModel.getUserType(), userModel.getUserStatus(), 1);
+        }
+        evictAfterCommit(List.of(userModel.getUserId()));
+        userIndexService.add(userModel);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        if(!userIndexService.mightContain(IndexedField.USERNAME, username)) {
+            return false;
+        }
+        boolean exists = userRepository.existsByUsername(username);
+        if(!exists) {
+            userIndexService.recordFalsePositive(IndexedField.USERNAME);
+        }
+        return exists;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        if(!userIndexService.mightContain(IndexedField.EMAIL, email)) {
+            return false;
+        }
+        boolean exists = userRepository.existsByEmail(email);
+        if(!exists) {
+            userIndexService.recordFalsePositive(IndexedField.EMAIL);
+        }
+        return exists;
     }
 
+    /*
+     * Authoritative checks for when a unique constraint has already fired: the winner may have been
+     * saved by another instance, so neither the local Bloom filter nor a lagging replica can answer.
+     */
     @Override
+    public boolean existsByUsernameOnPrimary(String username) {
+        return ReplicaRoutingDataSource.onPrimary(() -> userRepository.existsByUsername(username));
+    }
+
+    @Override
+    public boolean existsByEmailOnPrimary(String email) {
+        return ReplicaRoutingDataSource.onPrimary(() -> userRepository.existsByEmail(email));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return userRepository.findExistingUsernames(usernames);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return userRepository.findExistingEmails(emails);
+    }
+
+    /*
+     * New users only: ids are generated in memory, so Hibernate can group the INSERTs into JDBC
+     * batches (hibernate.jdbc.batch_size) that the driver rewrites into multi-row statements.
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<UserModel> userModels) {
+        userRepository.saveAll(userModels);
+        userModels.forEach(userModel -> {
+            outboxService.append(UserEventType.USER_CREATED, userModel.getUserId(), toEvent(userModel));
+            userStatisticsService.recordUsers(userModel.getUserType(), userModel.getUserStatus(), 1);
+            readYourWritesTracker.recordWrite(userModel.getUserId());
+            userIndexService.add(userModel);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<UserModel> findAll(Specification<UserModel> spec, Pageable pageable) {
         return userRepository.findAll(spec, pageable);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserSummaryDTO> findAllSummaries(Specification<UserModel> spec, Pageable pageable) {
+        return userRepository.findAllSummaries(spec, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserModel> findAllAfter(Specification<UserModel> spec, UUID after, int size) {
+        Sort sort = Sort.by(Sort.Direction.ASC, "userId");
+        Specification<UserModel> keysetSpec = Specification.where(spec);
+        if(after != null) {
+            keysetSpec = keysetSpec.and(SpecificationTemplate.userIdAfter(after));
+        }
+
+        // Fetch one extra row to know whether there is a next slice without running count(*)
+        List<UserModel> users = userRepository.findAll(keysetSpec, sort, size + 1);
+        boolean hasNext = users.size() > size;
+        if(hasNext) {
+            users = users.subList(0, size);
+        }
+        return new SliceImpl<>(users, PageRequest.of(0, size, sort), hasNext);
+    }
+
+    @Override
+    public Optional<UserCredentialsView> findCredentialsById(UUID userId) {
+        return userRepository.findCredentialsById(userId);
+    }
+
+    @Override
+    @Transactional
+    public UpdateResult update(UUID userId, Long expectedVersion, Map<String, Object> changes) {
+        Optional<UserTypeStatusView> previous = changes.containsKey("userType") || changes.containsKey("userStatus") ?
+                userRepository.lockTypeStatusById(userId) : Optional.empty();
+        if(userRepository.update(userId, expectedVersion, changes) == 0) {
+            // Only a failed conditional update needs the extra lookup to tell 412 from 404
+            return expectedVersion != null && userRepository.existsById(userId) ?
+                    UpdateResult.VERSION_MISMATCH : UpdateResult.NOT_FOUND;
+        }
+        // Only what changed; the full row isn't loaded for a conditional update
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("userId", userId);
+        if(expectedVersion != null) {
+            payload.put("version", expectedVersion + 1);
+        }
+        changes.forEach((field, value) -> {
+            if(!"password".equals(field)) {
+                payload.put(field, value);
+            }
+        });
+        outboxService.append(UserEventType.USER_UPDATED, userId, payload);
+        previous.ifPresent(user -> recordTypeStatusChange(user,
+                (UserType) changes.getOrDefault("userType", user.getUserType()),
+                (UserStatus) changes.getOrDefault("userStatus", user.getUserStatus())));
+        evictAfterCommit(List.of(userId));
+        return UpdateResult.UPDATED;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserModel> search(String text, int limit) {
+        return userRepository.search(text, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSuggestionDTO> autocomplete(String prefix, int limit) {
+        return userRepository.autocomplete(prefix, limit).stream()
+                .map(user -> new UserSuggestionDTO(user.getUserId(), user.getUsername(), user.getFullName(), user.getImageUrl()))
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * Waits for the commit: evicted any earlier (as @CacheEvict would, when the proxied method
+     * returns), a concurrent findById could still read the old row and cache it for the whole TTL.
+     */
+    private void evictAfterCommit(Collection<UUID> userIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+                for (UUID userId : userIds) {
+                    if(usersCache != null) {
+                        usersCache.evict(userId);
+                    }
+                    readYourWritesTracker.recordWrite(userId);
+                }
+            }
+        });
+    }
+
+    private void recordTypeStatusChange(UserTypeStatusView previous, UserType userType, UserStatus userStatus) {
+        if(previous.getUserType() != userType || previous.getUserStatus() != userStatus) {
+            userStatisticsService.recordUsers(previous.getUserType(), previous.getUserStatus(), -1);
+            userStatisticsService.recordUsers(userType, userStatus, 1);
+        }
+    }
+
+    private static UserSnapshotDTO toSnapshot(UserModel userModel) {
+        return new UserSnapshotDTO(userModel.getUserId(), userModel.getUsername(), userModel.getEmail(),
+                userModel.getFullName(), userModel.getUserStatus(), userModel.getUserType(), userModel.getPhoneNumber(),
+                userModel.getCpf(), userModel.getImageUrl(), userModel.getCreationDate(), userModel.getLastUpdateDate(),
+                userModel.getVersion());
+    }
+
+    private static UserModel toModel(UserSnapshotDTO snapshot) {
+        var userModel = new UserModel();
+        BeanUtils.copyProperties(snapshot, userModel);
+        return userModel;
+    }
+
+    private static UserEventDTO toEvent(UserModel userModel) {
+        var userEventDTO = new UserEventDTO();
+        BeanUtils.copyProperties(userModel, userEventDTO);
+        return userEventDTO;
+    }
 }
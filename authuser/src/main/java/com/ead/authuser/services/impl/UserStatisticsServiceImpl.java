@@ -0,0 +1,243 @@
+package com.ead.authuser.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.authuser.dtos.CourseStatisticsDTO;
+import com.ead.authuser.dtos.UserStatisticsDTO;
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+import com.ead.authuser.repositories.UserCourseRepository;
+import com.ead.authuser.repositories.UserRepository;
+import com.ead.authuser.repositories.projections.CourseUserCountView;
+import com.ead.authuser.repositories.projections.UserCountView;
+import com.ead.authuser.services.UserStatisticsService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+public class UserStatisticsServiceImpl implements UserStatisticsService {
+
+    private static final UserType[] USER_TYPES = UserType.values();
+    private static final UserStatus[] USER_STATUSES = UserStatus.values();
+
+    private final UserRepository userRepository;
+    private final UserCourseRepository userCourseRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ScheduledThreadPoolExecutor executor;
+    private final long reconcileIntervalNanos;
+    private final long checkIntervalMillis;
+    private final Timer reconcileTimer;
+    private final DistributionSummary driftSummary;
+    // null until the first reconciliation
+    private volatile Counts counts;
+    // Collects the deltas recorded while a reconciliation query runs, see reconcile()
+    private volatile Counts next;
+    private volatile long reconciledNanos;
+
+    public UserStatisticsServiceImpl(
+            @Value("${ead.statistics.reconcile-interval:5m}") Duration reconcileInterval,
+            @Value("${ead.statistics.check-interval:10s}") Duration checkInterval,
+            UserRepository userRepository,
+            UserCourseRepository userCourseRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userCourseRepository = userCourseRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.reconcileIntervalNanos = reconcileInterval.toNanos();
+        this.checkIntervalMillis = checkInterval.toMillis();
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "user-statistics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reconcileTimer = meterRegistry.timer("authuser.statistics.reconcile");
+        this.driftSummary = DistributionSummary.builder("authuser.statistics.drift")
+                .description("Users the in-memory counts were off by when reconciled")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::reconcileIfDue, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public Optional<UserStatisticsDTO> getStatistics() {
+        Counts current = counts;
+        if(current == null) {
+            return Optional.empty();
+        }
+        long total = 0;
+        Map<UserType, Long> byType = new EnumMap<>(UserType.class);
+        Map<UserStatus, Long> byStatus = new EnumMap<>(UserStatus.class);
+        Map<UserType, Map<UserStatus, Long>> byTypeAndStatus = new EnumMap<>(UserType.class);
+        for (UserType userType : USER_TYPES) {
+            Map<UserStatus, Long> statuses = new EnumMap<>(UserStatus.class);
+            for (UserStatus userStatus : USER_STATUSES) {
+                long count = current.users[userType.ordinal()][userStatus.ordinal()].sum();
+                statuses.put(userStatus, count);
+                byType.merge(userType, count, Long::sum);
+                byStatus.merge(userStatus, count, Long::sum);
+                total += count;
+            }
+            byTypeAndStatus.put(userType, statuses);
+        }
+        return Optional.of(new UserStatisticsDTO(total, byType, byStatus, byTypeAndStatus, current.reconciledAt));
+    }
+
+    @Override
+    public Optional<CourseStatisticsDTO> getCourseStatistics(UUID courseId) {
+        Counts current = counts;
+        if(current == null) {
+            return Optional.empty();
+        }
+        LongAdder users = current.courses.get(courseId);
+        return Optional.of(new CourseStatisticsDTO(courseId, users != null ? users.sum() : 0, current.reconciledAt));
+    }
+
+    @Override
+    public void recordUsers(UserType userType, UserStatus userStatus, long delta) {
+        afterCommit(() -> {
+            Counts current = counts;
+            Counts pending = next;
+            apply(current, userType, userStatus, delta);
+            if(pending != current) {
+                apply(pending, userType, userStatus, delta);
+            }
+        });
+    }
+
+    @Override
+    public void recordEnrollments(UUID courseId, long delta) {
+        afterCommit(() -> {
+            Counts current = counts;
+            Counts pending = next;
+            apply(current, courseId, delta);
+            if(pending != current) {
+                apply(pending, courseId, delta);
+            }
+        });
+    }
+
+    private void reconcileIfDue() {
+        try {
+            if(counts == null || System.nanoTime() - reconciledNanos >= reconcileIntervalNanos) {
+                reconcileTimer.record(this::reconcile);
+            }
+        } catch (RuntimeException e) {
+            // Keeps the schedule alive; the current counts stay in use until the next attempt succeeds
+            log.error("[statistics] Reconciliation failed", e);
+        }
+    }
+
+    /*
+     * Deltas recorded while the group-by queries run go to both the live counts and the new ones,
+     * so a write that commits during a long scan isn't lost when the new counts replace the old.
+     */
+    private void reconcile() {
+        Counts reconciled = new Counts(LocalDateTime.now(ZoneId.of("UTC")));
+        next = reconciled;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                for (UserCountView userCount : userRepository.countByTypeAndStatus()) {
+                    apply(reconciled, userCount.getUserType(), userCount.getUserStatus(), userCount.getTotal());
+                }
+                for (CourseUserCountView courseCount : userCourseRepository.countByCourse()) {
+                    apply(reconciled, courseCount.getCourseId(), courseCount.getTotal());
+                }
+            });
+        } catch (RuntimeException e) {
+            next = null;
+            throw e;
+        }
+
+        Counts previous = counts;
+        counts = reconciled;
+        next = null;
+        reconciledNanos = System.nanoTime();
+        if(previous != null) {
+            long drift = 0;
+            for (UserType userType : USER_TYPES) {
+                for (UserStatus userStatus : USER_STATUSES) {
+                    drift += Math.abs(previous.users[userType.ordinal()][userStatus.ordinal()].sum()
+                            - reconciled.users[userType.ordinal()][userStatus.ordinal()].sum());
+                }
+            }
+            driftSummary.record(drift);
+        }
+        log.debug("[statistics] Counts reconciled, {} courses", reconciled.courses.size());
+    }
+
+    private static void apply(Counts target, UserType userType, UserStatus userStatus, long delta) {
+        if(target != null && userType != null && userStatus != null) {
+            target.users[userType.ordinal()][userStatus.ordinal()].add(delta);
+        }
+    }
+
+    private static void apply(Counts target, UUID courseId, long delta) {
+        if(target != null) {
+            target.courses.computeIfAbsent(courseId, id -> new LongAdder()).add(delta);
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private static final class Counts {
+
+        final LongAdder[][] users = new LongAdder[USER_TYPES.length][USER_STATUSES.length];
+        final ConcurrentMap<UUID, LongAdder> courses = new ConcurrentHashMap<>();
+        final LocalDateTime reconciledAt;
+
+        Counts(LocalDateTime reconciledAt) {
+            this.reconciledAt = reconciledAt;
+            for (LongAdder[] statuses : users) {
+                for (int i = 0; i < statuses.length; i++) {
+                    statuses[i] = new LongAdder();
+                }
+            }
+        }
+    }
+}
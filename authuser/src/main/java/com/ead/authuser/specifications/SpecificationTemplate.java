@@ -6,11 +6,11 @@ import org.springframework.data.jpa.domain.Specification;
 import com.ead.authuser.models.UserModel;
 
 import net.kaczmarzyk.spring.data.jpa.domain.Equal;
-import net.kaczmarzyk.spring.data.jpa.domain.Like;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.And;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
 
-import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 import java.util.UUID;
 
 public class SpecificationTemplate {
@@ -18,16 +18,28 @@ public class SpecificationTemplate {
     @And({
         @Spec(path = "userType", spec = Equal.class),
         @Spec(path = "userStatus", spec = Equal.class),
-        @Spec(path = "email", spec = Like.class),
-        @Spec(path = "fullName", spec = Like.class)
+        @Spec(path = "email", spec = UnaccentLike.class),
+        @Spec(path = "fullName", spec = UnaccentLike.class)
     })
     public interface UserSpec extends Specification<UserModel> {}
 
+    /**
+     * Course membership as an EXISTS semi-join instead of a DISTINCT join, so neither the page
+     * query nor the derived count query has to de-duplicate the joined rows. The correlated
+     * lookup is served by the (course_id, user_user_id) index on TB_USERS_COURSES.
+     */
     public static Specification<UserModel> userCourseId(final UUID courseId) {
         return (root, query, cb) -> {
-            query.distinct(true);
-            Join<UserModel, UserCourseModel> userProd = root.join("usersCourses");
-            return cb.equal(userProd.get("courseId"), courseId);
+            Subquery<UUID> userCourseSubquery = query.subquery(UUID.class);
+            Root<UserCourseModel> userCourse = userCourseSubquery.from(UserCourseModel.class);
+            userCourseSubquery.select(userCourse.get("user").get("userId"))
+                    .where(cb.equal(userCourse.get("courseId"), courseId),
+                            cb.equal(userCourse.get("user"), root));
+            return cb.exists(userCourseSubquery);
         };
     }
+
+    public static Specification<UserModel> userIdAfter(final UUID userId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("userId"), userId);
+    }
 }
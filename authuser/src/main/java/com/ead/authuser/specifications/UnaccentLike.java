@@ -0,0 +1,46 @@
+package com.ead.authuser.specifications;
+
+import java.util.Arrays;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import com.ead.authuser.utils.TextNormalizer;
+
+import net.kaczmarzyk.spring.data.jpa.domain.PathSpecification;
+import net.kaczmarzyk.spring.data.jpa.domain.WithoutTypeConversion;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+
+/**
+ * Case and accent-insensitive {@code Like}. Compares against lower(f_unaccent(path)), the
+ * expression the trigram indexes are built on, so the leading wildcard doesn't force a
+ * sequential scan.
+ */
+public class UnaccentLike<T> extends PathSpecification<T> implements WithoutTypeConversion {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final String pattern;
+
+    public UnaccentLike(QueryContext queryContext, String path, String... args) {
+        super(queryContext, path);
+        if(args == null || args.length != 1) {
+            throw new IllegalArgumentException("Expected exactly one argument (the fragment to match against), but got: " + Arrays.toString(args));
+        }
+        this.pattern = "%" + TextNormalizer.searchable(args[0]) + "%";
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Expression<String> unaccented = cb.function("f_unaccent", String.class, this.<String>path(root));
+        return cb.like(cb.lower(unaccented), pattern);
+    }
+
+    @Override
+    public String toString() {
+        return "UnaccentLike [pattern=" + pattern + ", path=" + path + "]";
+    }
+}
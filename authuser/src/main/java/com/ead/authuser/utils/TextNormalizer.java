@@ -0,0 +1,29 @@
+package com.ead.authuser.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Java side of the f_unaccent() database function: search terms are normalized the same way
+ * as the indexed expressions, so they can be matched against them.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextNormalizer() {
+    }
+
+    public static String unaccent(String text) {
+        if(text == null) {
+            return null;
+        }
+        return COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    /** Lower-cased, unaccented form used in LIKE patterns and trigram comparisons. */
+    public static String searchable(String text) {
+        return unaccent(text).toLowerCase(Locale.ROOT).trim();
+    }
+}
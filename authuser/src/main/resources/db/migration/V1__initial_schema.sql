@@ -0,0 +1,30 @@
+-- Schema as hibernate.ddl-auto=update created it before Flyway took over (Hibernate now only validates it).
+-- Databases built that way are baselined at this version (spring.flyway.baseline-on-migrate) and never run
+-- this script, so it must not change: anything added since belongs in a later migration, which runs on both.
+CREATE TABLE tb_users (
+    user_id          uuid         NOT NULL,
+    cpf              varchar(20),
+    creation_date    timestamp    NOT NULL,
+    email            varchar(50)  NOT NULL,
+    full_name        varchar(150) NOT NULL,
+    image_url        varchar(255),
+    last_update_date timestamp    NOT NULL,
+    password         varchar(255) NOT NULL,
+    phone_number     varchar(20),
+    user_status      varchar(255) NOT NULL,
+    user_type        varchar(255) NOT NULL,
+    username         varchar(50)  NOT NULL,
+    CONSTRAINT tb_users_pkey PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE tb_users_courses (
+    user_course_id uuid NOT NULL,
+    course_id      uuid NOT NULL,
+    user_user_id   uuid NOT NULL,
+    CONSTRAINT tb_users_courses_pkey PRIMARY KEY (user_course_id),
+    CONSTRAINT fk_users_courses_user FOREIGN KEY (user_user_id) REFERENCES tb_users (user_id)
+);
+
+CREATE INDEX idx_users_courses_course_user ON tb_users_courses (course_id, user_user_id);
@@ -0,0 +1,16 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE (it depends on the search_path), so it can't be used in an index.
+-- Pinning the dictionary makes this wrapper safe to declare IMMUTABLE.
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- Serve the email/fullName filters of GET /users, i.e. lower(f_unaccent(col)) LIKE '%term%'
+CREATE INDEX idx_users_full_name_trgm ON tb_users USING gin (lower(f_unaccent(full_name)) gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON tb_users USING gin (lower(f_unaccent(email)) gin_trgm_ops);
+
+-- Ranked search and autocomplete. 'simple' because stemming names does more harm than good.
+CREATE INDEX idx_users_search_document ON tb_users USING gin (
+    to_tsvector('simple', f_unaccent(full_name || ' ' || username || ' ' || email)));
@@ -0,0 +1,12 @@
+-- Indexes for the query shapes of SpecificationTemplate. Built CONCURRENTLY so migrating a live
+-- table doesn't block writes (Flyway runs a script made only of such statements outside a transaction).
+
+-- ?userStatus= / ?userType= with the default userId sort: the page is read off the index in order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_status_user_id ON tb_users (user_status, user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_type_user_id ON tb_users (user_type, user_id);
+
+-- sort=creationDate
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_creation_date ON tb_users (creation_date);
+
+-- FK side of TB_USERS_COURSES: deleting a user and listing a user's enrollments
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_courses_user ON tb_users_courses (user_user_id);
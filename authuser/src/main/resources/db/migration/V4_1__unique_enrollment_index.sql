@@ -0,0 +1,4 @@
+-- Built CONCURRENTLY like the V3 indexes, so enrolling isn't blocked meanwhile; V4.2 turns it into the constraint.
+-- If a duplicate pair was inserted after V4 ran, this fails and leaves an INVALID index behind: drop it,
+-- run V4's DELETE again, then flyway repair and migrate.
+CREATE UNIQUE INDEX CONCURRENTLY uk_users_courses_course_user ON tb_users_courses (course_id, user_user_id);
@@ -0,0 +1,3 @@
+-- Only a catalog change on top of the index V4.1 built, so the ACCESS EXCLUSIVE lock is held briefly
+ALTER TABLE tb_users_courses
+    ADD CONSTRAINT uk_users_courses_course_user UNIQUE USING INDEX uk_users_courses_course_user;
@@ -0,0 +1,3 @@
+-- The unique constraint's index has the same columns. Databases baselined from ddl-auto=update may never
+-- have had this one.
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_courses_course_user;
@@ -0,0 +1,7 @@
+-- Enrolling is idempotent from now on (INSERT ... ON CONFLICT DO NOTHING), which needs the pair to be unique.
+-- Keep the oldest row of any duplicate pair already present; V4.1 to V4.3 then add the constraint.
+DELETE FROM tb_users_courses a
+    USING tb_users_courses b
+    WHERE a.course_id = b.course_id
+      AND a.user_user_id = b.user_user_id
+      AND a.user_course_id > b.user_course_id;
@@ -0,0 +1,12 @@
+-- User lifecycle events, inserted in the same transaction as the change and deleted by the relay
+-- once published. No FK to tb_users: a USER_DELETED event outlives its user.
+CREATE SEQUENCE tb_user_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE tb_user_outbox (
+    event_id   int8        NOT NULL,
+    user_id    uuid        NOT NULL,
+    event_type varchar(30) NOT NULL,
+    payload    text        NOT NULL,
+    created_at timestamp   NOT NULL,
+    CONSTRAINT tb_user_outbox_pkey PRIMARY KEY (event_id)
+);
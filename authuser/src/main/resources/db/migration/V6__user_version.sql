@@ -0,0 +1,10 @@
+-- Optimistic-locking version of a user (ETag of GET /users/{userId}, If-Match on updates). Baselined
+-- databases either lack the column or got it nullable from ddl-auto=update, hence the IF NOT EXISTS
+-- and the backfill.
+ALTER TABLE tb_users ADD COLUMN IF NOT EXISTS version int8 NOT NULL DEFAULT 0;
+
+UPDATE tb_users SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE tb_users
+    ALTER COLUMN version SET DEFAULT 0,
+    ALTER COLUMN version SET NOT NULL;
@@ -0,0 +1,84 @@
+package com.ead.authuser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Starts the application on a database as hibernate.ddl-auto=update left it before Flyway: baselined
+ * at V1, so only the later migrations run, and ddl-auto=validate has to pass afterwards. The legacy
+ * schema needs a database of its own, so this is the one Postgres test not extending
+ * PostgresIntegrationTest, whose datasource a subclass cannot repoint.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class LegacySchemaMigrationTest {
+
+    static final UUID USER_ID = UUID.randomUUID();
+    static final UUID COURSE_ID = UUID.randomUUID();
+
+    static String legacyUrl;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresIntegrationTest.registerDatabase(registry, "spring.datasource", () -> legacyUrl);
+    }
+
+    // Runs before the application context, and so before Flyway. No version column, no course index.
+    @BeforeAll
+    static void createLegacySchema() {
+        legacyUrl = PostgresIntegrationTest.createDatabase("authuser_legacy");
+        JdbcTemplate jdbcTemplate = PostgresIntegrationTest.jdbcTemplate(legacyUrl);
+        jdbcTemplate.execute("create table tb_users (user_id uuid not null, cpf varchar(20), creation_date timestamp not null,"
+                + " email varchar(50) not null, full_name varchar(150) not null, image_url varchar(255),"
+                + " last_update_date timestamp not null, password varchar(255) not null, phone_number varchar(20),"
+                + " user_status varchar(255) not null, user_type varchar(255) not null, username varchar(50) not null,"
+                + " primary key (user_id))");
+        jdbcTemplate.execute("alter table tb_users add constraint uk_6dotkott2kjsp8vw4d0m25fb7 unique (email)");
+        jdbcTemplate.execute("alter table tb_users add constraint uk_r43af9ap4edm43mmtq01oddj6 unique (username)");
+        jdbcTemplate.execute("create table tb_users_courses (user_course_id uuid not null, course_id uuid not null,"
+                + " user_user_id uuid not null, primary key (user_course_id))");
+        jdbcTemplate.execute("alter table tb_users_courses add constraint fk6mvubv8j5ecr2o0mrab7w7vqb"
+                + " foreign key (user_user_id) references tb_users");
+
+        UserFixtures.insertUser(jdbcTemplate, USER_ID, "legacy", "Legacy User", "legacy-pass");
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("insert into tb_users_courses (user_course_id, course_id, user_user_id) values (?, ?, ?)",
+                    UUID.randomUUID(), COURSE_ID, USER_ID);
+        }
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void baselinedAtV1AndMigratedToTheLatestVersion() {
+        assertThat(jdbcTemplate.queryForObject("select count(*) from flyway_schema_history where version = '1' and type = 'BASELINE'",
+                Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from flyway_schema_history where not success", Integer.class)).isZero();
+    }
+
+    @Test
+    void existingUsersGetVersionZero() {
+        assertThat(jdbcTemplate.queryForObject("select version from tb_users where user_id = ?", Long.class, USER_ID)).isZero();
+    }
+
+    @Test
+    void duplicateEnrollmentsAreRemovedAndThePairIsUnique() {
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tb_users_courses where course_id = ? and user_user_id = ?",
+                Integer.class, COURSE_ID, USER_ID)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from pg_constraint where conname = 'uk_users_courses_course_user'",
+                Integer.class)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ead.authuser;
+
+import java.util.function.Supplier;
+
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base for the tests that need a real PostgreSQL. One container serves the whole run: it is started
+ * on first use and removed by Testcontainers when the JVM exits, and subclasses without extra
+ * configuration also share one application context. A test that must not see the shared, already
+ * migrated schema gets a database of its own in the same container from {@link #createDatabase}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    // 16+ for EXPLAIN (GENERIC_PLAN), see UserQueryPlanTest
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registerDatabase(registry, "spring.datasource", POSTGRES::getJdbcUrl);
+    }
+
+    /**
+     * Points the url, username and password under the given prefix (spring.datasource,
+     * ead.datasource.replicas[0], ...) at a database of the shared container.
+     */
+    protected static void registerDatabase(DynamicPropertyRegistry registry, String prefix, Supplier<Object> jdbcUrl) {
+        registry.add(prefix + ".url", jdbcUrl);
+        registry.add(prefix + ".username", POSTGRES::getUsername);
+        registry.add(prefix + ".password", POSTGRES::getPassword);
+    }
+
+    /** Creates an empty database in the shared container and returns its JDBC URL. */
+    protected static String createDatabase(String name) {
+        POSTGRES.start();
+        jdbcTemplate(POSTGRES.getJdbcUrl()).execute("CREATE DATABASE " + name);
+        return "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+                + "/" + name;
+    }
+
+    protected static JdbcTemplate jdbcTemplate(String jdbcUrl) {
+        return new JdbcTemplate(DataSourceBuilder.create()
+                .url(jdbcUrl).username(POSTGRES.getUsername()).password(POSTGRES.getPassword()).build());
+    }
+}
@@ -0,0 +1,27 @@
+package com.ead.authuser;
+
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Users inserted straight into tb_users, past the service layer and so without cache entries,
+ * index updates, statistics or outbox events. The email is derived from the username.
+ */
+public final class UserFixtures {
+
+    private UserFixtures() {
+    }
+
+    public static UUID insertUser(JdbcTemplate jdbcTemplate, String username, String fullName, String password) {
+        UUID userId = UUID.randomUUID();
+        insertUser(jdbcTemplate, userId, username, fullName, password);
+        return userId;
+    }
+
+    public static void insertUser(JdbcTemplate jdbcTemplate, UUID userId, String username, String fullName, String password) {
+        jdbcTemplate.update("INSERT INTO tb_users (user_id, username, email, password, full_name, user_status, user_type, "
+                        + "creation_date, last_update_date) VALUES (?, ?, ?, ?, ?, 'ACTIVE', 'STUDENT', now(), now())",
+                userId, username, username + "@ead.com", password, fullName);
+    }
+}
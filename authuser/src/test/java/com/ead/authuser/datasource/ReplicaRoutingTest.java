@@ -0,0 +1,96 @@
+package com.ead.authuser.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.authuser.PostgresIntegrationTest;
+import com.ead.authuser.UserFixtures;
+import com.ead.authuser.repositories.UserRepository;
+
+/**
+ * Routing against two independent databases standing in for a primary and its replica: the shared
+ * one, and a second one in the same container. Nothing replicates between them, so which one a
+ * statement ran on shows in the data.
+ */
+@AutoConfigureMockMvc
+class ReplicaRoutingTest extends PostgresIntegrationTest {
+
+    static String replicaUrl;
+
+    @DynamicPropertySource
+    static void replica(DynamicPropertyRegistry registry) {
+        registerDatabase(registry, "ead.datasource.replicas[0]", () -> replicaUrl);
+    }
+
+    @Autowired
+    JdbcTemplate primaryJdbc;
+
+    static JdbcTemplate replicaJdbc;
+
+    // The application migrates the primary; a real replica would get the schema through replication
+    @BeforeAll
+    static void migrateReplica() {
+        replicaUrl = createDatabase("authuser_replica");
+        replicaJdbc = jdbcTemplate(replicaUrl);
+        Flyway.configure().dataSource(replicaJdbc.getDataSource()).load().migrate();
+    }
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void readOnlyTransactionsReadFromTheReplica() {
+        UserFixtures.insertUser(replicaJdbc, "replica-only", "Routing Test", "legacy-pass");
+
+        var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Boolean onReplica = readOnly.execute(status -> userRepository.existsByUsername("replica-only"));
+        assertThat(onReplica).isTrue();
+
+        var readWrite = new TransactionTemplate(transactionManager);
+        Boolean onPrimary = readWrite.execute(status -> userRepository.existsByUsername("replica-only"));
+        assertThat(onPrimary).isFalse();
+    }
+
+    // The credentials are read in a read-only transaction; the update that follows in the same request must not reuse its connection
+    @Test
+    void writeAfterReadInTheSameRequestGoesToThePrimary() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UserFixtures.insertUser(primaryJdbc, userId, "password-change", "Routing Test", "legacy-pass");
+        UserFixtures.insertUser(replicaJdbc, userId, "password-change", "Routing Test", "legacy-pass");
+
+        mockMvc.perform(put("/users/{userId}/password", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"oldPassword\":\"legacy-pass\",\"password\":\"new-pass-1\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(password(primaryJdbc, userId)).startsWith("$2");
+        assertThat(password(replicaJdbc, userId)).isEqualTo("legacy-pass");
+    }
+
+    private static String password(JdbcTemplate jdbcTemplate, UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT password FROM tb_users WHERE user_id = ?", String.class, userId);
+    }
+}
@@ -0,0 +1,139 @@
+package com.ead.authuser.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.ASTQueryTranslatorFactory;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ead.authuser.PostgresIntegrationTest;
+import com.ead.authuser.enums.UserStatus;
+import com.ead.authuser.enums.UserType;
+import com.ead.authuser.models.UserModel;
+import com.ead.authuser.specifications.SpecificationTemplate;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate generates for the list filters, with sequential scans
+ * disabled: a Seq Scan left in the plan means no index can serve that query shape. Also boots
+ * the application against the Flyway schema, so ddl-auto=validate is exercised.
+ */
+class UserQueryPlanTest extends PostgresIntegrationTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void statusFilterSortedByUserId() {
+        assertNoSequentialScan(usersQuery((root, query, cb) -> cb.equal(root.get("userStatus"), UserStatus.ACTIVE), "userId"));
+    }
+
+    @Test
+    void typeFilterSortedByUserId() {
+        assertNoSequentialScan(usersQuery((root, query, cb) -> cb.equal(root.get("userType"), UserType.STUDENT), "userId"));
+    }
+
+    @Test
+    void courseFilterSortedByUserId() {
+        assertNoSequentialScan(usersQuery(SpecificationTemplate.userCourseId(UUID.randomUUID()), "userId"));
+    }
+
+    @Test
+    void keysetPage() {
+        assertNoSequentialScan(usersQuery(SpecificationTemplate.userIdAfter(UUID.randomUUID()), "userId"));
+    }
+
+    @Test
+    void sortedByCreationDate() {
+        assertNoSequentialScan(usersQuery(null, "creationDate"));
+    }
+
+    // Same expression UnaccentLike builds for ?fullName= and ?email=
+    @Test
+    void fullNameAndEmailFilters() {
+        for (String attribute : List.of("fullName", "email")) {
+            assertNoSequentialScan(usersQuery((root, query, cb) -> cb.like(
+                    cb.lower(cb.function("f_unaccent", String.class, root.get(attribute))), "%silva%"), null));
+        }
+    }
+
+    @Test
+    void uniquenessChecks() {
+        assertNoSequentialScan(toSql("select u.userId from UserModel u where u.username = :username"));
+        assertNoSequentialScan(toSql("select u.userId from UserModel u where u.email = :email"));
+    }
+
+    @Test
+    void enrollmentsOfUser() {
+        assertNoSequentialScan(toSql("select uc.userCourseId from UserCourseModel uc where uc.user.userId = :userId"));
+    }
+
+    private String usersQuery(Specification<UserModel> spec, String sortAttribute) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserModel> query = cb.createQuery(UserModel.class);
+        Root<UserModel> root = query.from(UserModel.class);
+        if(spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        if(sortAttribute != null) {
+            query.orderBy(cb.asc(root.get(sortAttribute)));
+        }
+        String jpql = entityManager.createQuery(query.select(root)).unwrap(org.hibernate.query.Query.class).getQueryString();
+        return toSql(jpql) + " limit 10";
+    }
+
+    private String toSql(String jpql) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        QueryTranslator translator = new ASTQueryTranslatorFactory()
+                .createQueryTranslator(jpql, jpql, Collections.emptyMap(), sessionFactory, null);
+        translator.compile(Collections.emptyMap(), false);
+        return translator.getSQLString();
+    }
+
+    private void assertNoSequentialScan(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if(c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        List<String> plan = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set enable_seqscan = off");
+                try (ResultSet resultSet = statement.executeQuery("explain (generic_plan) " + numbered)) {
+                    List<String> lines = new ArrayList<>();
+                    while (resultSet.next()) {
+                        lines.add(resultSet.getString(1));
+                    }
+                    return lines;
+                } finally {
+                    statement.execute("reset enable_seqscan");
+                }
+            }
+        });
+        assertThat(plan).as("Plan of %s:%n%s", sql, String.join("\n", plan)).noneMatch(line -> line.contains("Seq Scan"));
+    }
+}
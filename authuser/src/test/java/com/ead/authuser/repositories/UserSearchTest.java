@@ -0,0 +1,51 @@
+package com.ead.authuser.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ead.authuser.PostgresIntegrationTest;
+import com.ead.authuser.UserFixtures;
+import com.ead.authuser.models.UserModel;
+
+/**
+ * Search terms have to be tokenized like the indexed document, or whatever the 'simple' parser
+ * keeps as one lexeme (an email, a hyphenated name) can never match.
+ */
+class UserSearchTest extends PostgresIntegrationTest {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM tb_users WHERE username = 'joao.guimaraes'");
+        UserFixtures.insertUser(jdbcTemplate, "joao.guimaraes", "João Guimarães", "secret");
+    }
+
+    @Test
+    void searchByFullEmail() {
+        assertThat(userRepository.search("Joao.Guimaraes@ead.com", 20)).extracting(UserModel::getUsername).contains("joao.guimaraes");
+    }
+
+    @Test
+    void searchByAccentedName() {
+        assertThat(userRepository.search("joão guimarães", 20)).extracting(UserModel::getUsername).contains("joao.guimaraes");
+    }
+
+    @Test
+    void autocompleteByPrefix() {
+        assertThat(userRepository.autocomplete("Joao Guim", 10)).extracting(UserModel::getUsername).contains("joao.guimaraes");
+    }
+
+    @Test
+    void autocompleteByFullEmail() {
+        assertThat(userRepository.autocomplete("joao.guimaraes@ead.com", 10)).extracting(UserModel::getUsername).contains("joao.guimaraes");
+    }
+}
@@ -0,0 +1,124 @@
+package com.ead.authuser.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.authuser.PostgresIntegrationTest;
+import com.ead.authuser.enums.UserEventType;
+import com.ead.authuser.outbox.InMemoryOutboxTransport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The relay against a real database (the batch is claimed with FOR UPDATE SKIP LOCKED), publishing
+ * to the in-memory transport with short poll and backoff intervals.
+ */
+@SpringBootTest(properties = {"ead.outbox.poll-interval-ms=50", "ead.outbox.max-backoff-ms=200"})
+class OutboxServiceTest extends PostgresIntegrationTest {
+
+    @SpyBean
+    InMemoryOutboxTransport transport;
+
+    @Autowired
+    OutboxService outboxService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @AfterEach
+    void restoreTransport() {
+        reset(transport);
+        transport.clear();
+    }
+
+    @Test
+    void committedEventIsPublishedAndDeleted() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxService.append(UserEventType.USER_CREATED, userId, Map.of("userId", userId)));
+
+        await(() -> published(userId));
+        assertThat(transport.getEvents()).filteredOn(event -> event.getUserId().equals(userId))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getEventType()).isEqualTo(UserEventType.USER_CREATED);
+                    assertThat(event.getPayload()).contains(userId.toString());
+                });
+        await(() -> pending(userId) == 0);
+    }
+
+    @Test
+    void rolledBackEventIsNeverPublished() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.append(UserEventType.USER_DELETED, userId, Map.of("userId", userId));
+            status.setRollbackOnly();
+        });
+
+        assertThat(pending(userId)).isZero();
+        TimeUnit.MILLISECONDS.sleep(300);
+        assertThat(published(userId)).isFalse();
+    }
+
+    @Test
+    void failedBatchStaysInTheTableAndIsRetried() throws InterruptedException {
+        double failedBefore = meterRegistry.counter("authuser.outbox.events", "result", "failed").count();
+        doThrow(new IllegalStateException("broker unavailable"))
+                .doThrow(new IllegalStateException("broker unavailable"))
+                .doCallRealMethod()
+                .when(transport).send(anyList());
+
+        UUID userId = UUID.randomUUID();
+        long start = System.nanoTime();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxService.append(UserEventType.USER_UPDATED, userId, Map.of("userId", userId)));
+
+        await(() -> published(userId));
+        // Backed off 50 ms after the first failure and 100 ms after the second
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+        assertThat(meterRegistry.counter("authuser.outbox.events", "result", "failed").count()).isGreaterThanOrEqualTo(failedBefore + 2);
+        await(() -> pending(userId) == 0);
+    }
+
+    private boolean published(UUID userId) {
+        return transport.getEvents().stream().anyMatch(event -> event.getUserId().equals(userId));
+    }
+
+    private int pending(UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tb_user_outbox WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if(System.nanoTime() > deadline) {
+                fail("Condition not met within 10s");
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ead.authuser.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ead.authuser.PostgresIntegrationTest;
+import com.ead.authuser.UserFixtures;
+
+/**
+ * Enrollment statements are PostgreSQL-only (unnest, ON CONFLICT against the V4.2 constraint), so
+ * they run against a real instance migrated by Flyway.
+ */
+class UserCourseServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    UserCourseService userCourseService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    UUID courseId;
+    UUID firstUser;
+    UUID secondUser;
+
+    @BeforeEach
+    void users() {
+        courseId = UUID.randomUUID();
+        firstUser = insertUser();
+        secondUser = insertUser();
+    }
+
+    @Test
+    void enrollIsIdempotentAndSkipsUnknownUsers() {
+        assertThat(userCourseService.enroll(courseId, List.of(firstUser, secondUser, UUID.randomUUID()))).isEqualTo(2);
+        assertThat(userCourseService.enroll(courseId, List.of(firstUser, secondUser))).isZero();
+        assertThat(enrollments(courseId)).isEqualTo(2);
+        assertThat(userCourseService.isEnrolled(courseId, firstUser)).isTrue();
+    }
+
+    @Test
+    void unenrollRemovesOnlyTheGivenUsers() {
+        userCourseService.enroll(courseId, List.of(firstUser, secondUser));
+
+        assertThat(userCourseService.unenroll(courseId, List.of(firstUser))).isEqualTo(1);
+        assertThat(userCourseService.unenroll(courseId, List.of(firstUser))).isZero();
+        assertThat(userCourseService.isEnrolled(courseId, firstUser)).isFalse();
+        assertThat(userCourseService.isEnrolled(courseId, secondUser)).isTrue();
+    }
+
+    @Test
+    void deleteAllByCourseLeavesOtherCourses() {
+        UUID otherCourseId = UUID.randomUUID();
+        userCourseService.enroll(courseId, List.of(firstUser, secondUser));
+        userCourseService.enroll(otherCourseId, List.of(firstUser));
+
+        assertThat(userCourseService.deleteAllByCourse(courseId)).isEqualTo(2);
+        assertThat(enrollments(courseId)).isZero();
+        assertThat(enrollments(otherCourseId)).isEqualTo(1);
+    }
+
+    @Test
+    void deletingAUserDeletesItsEnrollments() {
+        userCourseService.enroll(courseId, List.of(firstUser, secondUser));
+
+        assertThat(userService.deleteById(firstUser)).isTrue();
+        assertThat(enrollments(courseId)).isEqualTo(1);
+        assertThat(userCourseService.isEnrolled(courseId, secondUser)).isTrue();
+    }
+
+    private UUID insertUser() {
+        return UserFixtures.insertUser(jdbcTemplate, "enrollment-" + UUID.randomUUID().toString().substring(0, 8), "Enrollment Test", "secret");
+    }
+
+    private int enrollments(UUID courseId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tb_users_courses WHERE course_id = ?", Integer.class, courseId);
+    }
+}